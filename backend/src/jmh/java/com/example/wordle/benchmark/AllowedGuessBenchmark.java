@@ -0,0 +1,59 @@
+package com.example.wordle.benchmark;
+
+import com.example.wordle.engine.PackedWord;
+import com.example.wordle.engine.WordSet;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Allowed-guess check as done at the top of GameService.makeGuess, over a list the size of
+// the usual Wordle guess list; about half the lookups hit
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class AllowedGuessBenchmark {
+
+  private static final int LIST_SIZE = 13_000;
+  private static final int LOOKUPS = 1024;
+
+  private WordSet allowed;
+  private final String[] guesses = new String[LOOKUPS];
+  private final int[] packedGuesses = new int[LOOKUPS];
+  private int index;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(BenchmarkData.SEED);
+    WordSet.Builder builder = WordSet.builder();
+    String[] list = new String[LIST_SIZE];
+    for (int i = 0; i < LIST_SIZE; i++) {
+      list[i] = BenchmarkData.randomWord(random);
+      builder.add(PackedWord.encode(list[i]));
+    }
+    allowed = builder.build();
+    for (int i = 0; i < LOOKUPS; i++) {
+      guesses[i] = random.nextBoolean() ? list[random.nextInt(LIST_SIZE)] : BenchmarkData.randomWord(random);
+      packedGuesses[i] = PackedWord.encode(guesses[i]);
+    }
+  }
+
+  private int next() {
+    index = (index + 1) & (LOOKUPS - 1);
+    return index;
+  }
+
+  @Benchmark
+  public boolean containsPacked() {
+    return allowed.contains(packedGuesses[next()]);
+  }
+
+  // Encoding the request's text included, the full check
+  @Benchmark
+  public boolean encodeAndContains() {
+    return allowed.contains(PackedWord.encode(guesses[next()]));
+  }
+}
@@ -0,0 +1,72 @@
+package com.example.wordle.benchmark;
+
+import com.example.wordle.model.Game;
+import com.example.wordle.model.User;
+import com.example.wordle.model.Word;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Deterministic synthetic data so numbers are comparable between runs
+public final class BenchmarkData {
+
+  public static final long SEED = 42L;
+
+  private BenchmarkData() {
+  }
+
+  public static String randomWord(Random random) {
+    char[] chars = new char[5];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = (char) ('A' + random.nextInt(26));
+    }
+    return new String(chars);
+  }
+
+  public static User player(long id) {
+    User user = new User();
+    user.setId(id);
+    user.setUsername("player" + id);
+    user.setPasswordHash("x");
+    user.setRole(User.Role.PLAYER);
+    return user;
+  }
+
+  public static List<Word> words(int count) {
+    Random random = new Random(SEED);
+    List<Word> words = new ArrayList<>(count);
+    for (int i = 1; i <= count; i++) {
+      Word word = new Word();
+      word.setId(i);
+      word.setWord(randomWord(random));
+      word.setIsActive(true);
+      word.setCreatedAt(LocalDateTime.of(2025, 1, 1, 0, 0));
+      words.add(word);
+    }
+    return words;
+  }
+
+  // Finished games spread over the given number of days ending at lastDay
+  public static List<Game> finishedGames(int count, User player, List<Word> words, LocalDate lastDay, int days) {
+    Random random = new Random(SEED);
+    List<Game> games = new ArrayList<>(count);
+    for (long i = 1; i <= count; i++) {
+      LocalDateTime startedAt = lastDay.minusDays(random.nextInt(days)).atTime(random.nextInt(24), random.nextInt(60));
+      int guesses = 1 + random.nextInt(5);
+      Game game = new Game();
+      game.setId(i);
+      game.setPlayer(player);
+      game.setWord(words.get(random.nextInt(words.size())));
+      game.setGuessesMade(guesses);
+      game.setWon(random.nextBoolean());
+      game.setFinished(true);
+      game.setStartedAt(startedAt);
+      game.setFinishedAt(startedAt.plusMinutes(guesses));
+      games.add(game);
+    }
+    return games;
+  }
+}
@@ -0,0 +1,85 @@
+package com.example.wordle.benchmark;
+
+import com.example.wordle.engine.Feedback;
+import com.example.wordle.engine.LetterIndex;
+import com.example.wordle.engine.PackedWord;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Remaining-candidate tracking per guess: LetterIndex narrowing of a game's bitset, as
+// CandidateTracker does, against rescoring every active word with Feedback.score
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CandidateBenchmark {
+
+  private static final int GUESSES = 256;
+
+  @Param({"2000", "10000"})
+  public int wordCount;
+
+  private int[] words;
+  private LetterIndex index;
+  private long[] afterOneGuess;
+  private final int[] guesses = new int[GUESSES];
+  private final int[] codes = new int[GUESSES];
+  private int next;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(BenchmarkData.SEED);
+    words = new int[wordCount];
+    for (int i = 0; i < wordCount; i++) {
+      words[i] = PackedWord.encode(BenchmarkData.randomWord(random));
+    }
+    index = LetterIndex.build(words, 1);
+    int target = words[random.nextInt(wordCount)];
+    for (int i = 0; i < GUESSES; i++) {
+      guesses[i] = words[random.nextInt(wordCount)];
+      codes[i] = Feedback.score(target, guesses[i]);
+    }
+    afterOneGuess = index.all();
+    index.narrow(afterOneGuess, guesses[0], codes[0]);
+  }
+
+  private int next() {
+    next = (next + 1) & (GUESSES - 1);
+    return next;
+  }
+
+  // A game's first guess: the full set, narrowed once
+  @Benchmark
+  public int firstGuess() {
+    int i = next();
+    long[] candidates = index.all();
+    index.narrow(candidates, guesses[i], codes[i]);
+    return LetterIndex.count(candidates);
+  }
+
+  // A later guess on a set already narrowed once
+  @Benchmark
+  public int secondGuess() {
+    int i = next();
+    long[] candidates = afterOneGuess.clone();
+    index.narrow(candidates, guesses[i], codes[i]);
+    return LetterIndex.count(candidates);
+  }
+
+  // The rescan the tracker avoids: score every word against the guess
+  @Benchmark
+  public int rescan() {
+    int i = next();
+    int count = 0;
+    for (int word : words) {
+      if (Feedback.score(word, guesses[i]) == codes[i]) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,93 @@
+package com.example.wordle.benchmark;
+
+import com.example.wordle.engine.Feedback;
+import com.example.wordle.engine.PackedWord;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Feedback scoring as done per guess in GameService.makeGuess
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FeedbackBenchmark {
+
+  private static final int PAIRS = 1024;
+
+  private final String[] targets = new String[PAIRS];
+  private final String[] guesses = new String[PAIRS];
+  private final int[] packedTargets = new int[PAIRS];
+  private final int[] packedGuesses = new int[PAIRS];
+  private int index;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(BenchmarkData.SEED);
+    for (int i = 0; i < PAIRS; i++) {
+      targets[i] = BenchmarkData.randomWord(random);
+      guesses[i] = BenchmarkData.randomWord(random);
+      packedTargets[i] = PackedWord.encode(targets[i]);
+      packedGuesses[i] = PackedWord.encode(guesses[i]);
+    }
+  }
+
+  private int next() {
+    index = (index + 1) & (PAIRS - 1);
+    return index;
+  }
+
+  // Pre-encoded words, as the dictionary holds them
+  @Benchmark
+  public int scorePacked() {
+    int i = next();
+    return Feedback.score(packedTargets[i], packedGuesses[i]);
+  }
+
+  // Encode both sides and render the pattern, the full per-guess path
+  @Benchmark
+  public String scoreFromStrings() {
+    int i = next();
+    return Feedback.toPattern(Feedback.score(PackedWord.encode(targets[i]), PackedWord.encode(guesses[i])));
+  }
+
+  // The original string-based generator, kept as a baseline
+  @Benchmark
+  public String legacyStringFeedback() {
+    int i = next();
+    return legacyFeedback(targets[i], guesses[i]);
+  }
+
+  private static String legacyFeedback(String targetWord, String guess) {
+    targetWord = targetWord.toUpperCase();
+    guess = guess.toUpperCase();
+    char[] feedback = new char[5];
+    boolean[] used = new boolean[5];
+
+    for (int i = 0; i < 5; i++) {
+      if (guess.charAt(i) == targetWord.charAt(i)) {
+        feedback[i] = 'G';
+        used[i] = true;
+      }
+    }
+
+    for (int i = 0; i < 5; i++) {
+      if (feedback[i] == 'G')
+        continue;
+      boolean found = false;
+      for (int j = 0; j < 5; j++) {
+        if (!used[j] && guess.charAt(i) == targetWord.charAt(j)) {
+          found = true;
+          used[j] = true;
+          break;
+        }
+      }
+      feedback[i] = found ? 'O' : '-';
+    }
+
+    return new String(feedback);
+  }
+}
@@ -0,0 +1,118 @@
+package com.example.wordle.benchmark;
+
+import com.example.wordle.dto.GuessView;
+import com.example.wordle.model.Game;
+import com.example.wordle.model.Word;
+import com.example.wordle.repository.AppSettingRepository;
+import com.example.wordle.repository.DailyStatsRepository;
+import com.example.wordle.repository.GameRepository;
+import com.example.wordle.repository.PlayerDailyGamesRepository;
+import com.example.wordle.repository.PlayerStatsRepository;
+import com.example.wordle.repository.UserRepository;
+import com.example.wordle.repository.WordRepository;
+import com.example.wordle.service.AllowedGuesses;
+import com.example.wordle.service.CandidateTracker;
+import com.example.wordle.service.DailyQuotaService;
+import com.example.wordle.service.DailyRollupService;
+import com.example.wordle.service.GameEvents;
+import com.example.wordle.service.GameMetrics;
+import com.example.wordle.service.GameService;
+import com.example.wordle.service.GameSessionStore;
+import com.example.wordle.service.GuessWriteBehind;
+import com.example.wordle.service.LeaderboardService;
+import com.example.wordle.service.PlayerStatsService;
+import com.example.wordle.service.SolvedWordIndex;
+import com.example.wordle.service.WordDictionary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// GameService.makeGuess on a game held in the session store, with the write-behind
+// queue draining into a stubbed JdbcTemplate and candidates tracked over the game words
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GuessBenchmark {
+
+  private static final int GAMES = 1024;
+
+  private GameService gameService;
+  private GameSessionStore gameSessions;
+  private GuessWriteBehind guessWriteBehind;
+  private final Game[] games = new Game[GAMES];
+  private int next;
+
+  @Setup
+  public void setUp() throws IOException {
+    List<Word> words = BenchmarkData.words(GAMES);
+    for (int i = 0; i < GAMES; i++) {
+      Game game = new Game();
+      game.setId((long) i);
+      game.setPlayer(BenchmarkData.player(1L));
+      game.setWord(words.get(i));
+      game.setStartedAt(LocalDateTime.now());
+      games[i] = game;
+    }
+
+    WordRepository wordRepository = mock(WordRepository.class, withSettings().stubOnly());
+    GameRepository gameRepository = mock(GameRepository.class, withSettings().stubOnly());
+    gameSessions = new GameSessionStore(256, Duration.ofMinutes(30));
+    guessWriteBehind = new GuessWriteBehind(mock(JdbcTemplate.class, withSettings().stubOnly()),
+        mock(PlatformTransactionManager.class, withSettings().stubOnly()),
+        GuessWriteBehind.Durability.ASYNC, 500, 50_000, 200, 5);
+    when(wordRepository.findByIsActiveTrue()).thenReturn(words);
+    WordDictionary wordDictionary = new WordDictionary(wordRepository);
+    wordDictionary.rebuild();
+    AllowedGuesses allowedGuesses = new AllowedGuesses(wordDictionary, new DefaultResourceLoader(), "");
+    allowedGuesses.load(new ByteArrayInputStream("QQQQQ".getBytes(StandardCharsets.US_ASCII)), "benchmark");
+    // No streams are open, so publishing is a map miss
+    GameEvents gameEvents = new GameEvents(new SimpleMeterRegistry(), 32, 20_000, 4, 1_800_000, 15_000);
+    gameService = new GameService(gameRepository, wordRepository,
+        mock(UserRepository.class, withSettings().stubOnly()),
+        wordDictionary, new SolvedWordIndex(gameRepository, 10_000),
+        gameSessions, guessWriteBehind,
+        new DailyRollupService(mock(DailyStatsRepository.class, withSettings().stubOnly()), gameRepository),
+        new GameMetrics(new SimpleMeterRegistry()),
+        new DailyQuotaService(mock(PlayerDailyGamesRepository.class, withSettings().stubOnly()), gameRepository,
+            mock(AppSettingRepository.class, withSettings().stubOnly()), gameEvents, 3),
+        allowedGuesses,
+        new CandidateTracker(wordDictionary, gameSessions, guessWriteBehind, new SimpleMeterRegistry(), 50),
+        new LeaderboardService(gameRepository, guessWriteBehind, 10, 100),
+        new PlayerStatsService(mock(PlayerStatsRepository.class, withSettings().stubOnly()), gameRepository,
+            mock(UserRepository.class, withSettings().stubOnly()), guessWriteBehind,
+            mock(JdbcTemplate.class, withSettings().stubOnly()), 10_000),
+        gameEvents);
+  }
+
+  @TearDown
+  public void tearDown() {
+    guessWriteBehind.shutdown();
+  }
+
+  // One non-winning guess on a fresh session each time
+  @Benchmark
+  public GuessView makeGuess() {
+    Game game = games[next];
+    next = (next + 1) & (GAMES - 1);
+    gameSessions.evict(game.getId());
+    gameSessions.put(game);
+    return gameService.makeGuess(game.getId(), "QQQQQ");
+  }
+}
@@ -0,0 +1,68 @@
+package com.example.wordle.benchmark;
+
+import com.example.wordle.engine.Feedback;
+import com.example.wordle.engine.FeedbackMatrix;
+import com.example.wordle.engine.PackedWord;
+import com.example.wordle.model.Word;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Hint engine over a dictionary of the given size: the full matrix build, a hint after one
+// guess (the common request), the uncached opening hint, and one incremental word change
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HintBenchmark {
+
+  @Param({"2000", "10000"})
+  public int wordCount;
+
+  private int[] words;
+  private FeedbackMatrix matrix;
+  private long[] afterOneGuess;
+  private int extraWord;
+
+  @Setup
+  public void setUp() {
+    List<Word> dictionary = BenchmarkData.words(wordCount);
+    words = dictionary.stream().mapToInt(word -> PackedWord.encode(word.getWord())).toArray();
+    matrix = FeedbackMatrix.build(words, ForkJoinPool.commonPool());
+
+    Random random = new Random(BenchmarkData.SEED);
+    int target = random.nextInt(wordCount);
+    int guess = random.nextInt(wordCount);
+    afterOneGuess = matrix.consistent(matrix.all(), words[guess], guess, Feedback.score(words[target], words[guess]));
+    extraWord = PackedWord.encode(BenchmarkData.randomWord(random));
+  }
+
+  @Benchmark
+  public FeedbackMatrix build() {
+    return FeedbackMatrix.build(words, ForkJoinPool.commonPool());
+  }
+
+  @Benchmark
+  public FeedbackMatrix.Ranking hintAfterOneGuess() {
+    return matrix.best(afterOneGuess);
+  }
+
+  // What HintService caches per dictionary state
+  @Benchmark
+  public FeedbackMatrix.Ranking openingHint() {
+    return matrix.best(matrix.all());
+  }
+
+  // An admin adding a word and removing it again
+  @Benchmark
+  public int addAndRemoveWord() {
+    int slot = matrix.add(extraWord);
+    matrix.remove(slot);
+    return slot;
+  }
+}
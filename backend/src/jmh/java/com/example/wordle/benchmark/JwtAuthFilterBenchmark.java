@@ -0,0 +1,50 @@
+package com.example.wordle.benchmark;
+
+import com.example.wordle.config.JwtAuthFilter;
+import com.example.wordle.config.JwtUtils;
+import com.example.wordle.config.VerifiedTokenCache;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Full authentication filter pass for an authenticated player request, with the
+// verified-token cache disabled (0) and enabled
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JwtAuthFilterBenchmark {
+
+  @Param({"0", "10000"})
+  public int cacheEntries;
+
+  private JwtAuthFilter filter;
+  private String header;
+
+  @Setup
+  public void setUp() {
+    JwtUtils jwtUtils = new JwtUtils("benchmark-secret", 86_400_000L);
+    filter = new JwtAuthFilter(new VerifiedTokenCache(jwtUtils, cacheEntries));
+    header = "Bearer " + jwtUtils.generateToken("player1", "PLAYER");
+  }
+
+  @Benchmark
+  public Object doFilter() throws ServletException, IOException {
+    MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/player/game/1/status");
+    request.addHeader("Authorization", header);
+    try {
+      filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+      return SecurityContextHolder.getContext().getAuthentication();
+    } finally {
+      SecurityContextHolder.clearContext();
+    }
+  }
+}
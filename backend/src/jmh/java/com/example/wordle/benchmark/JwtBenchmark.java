@@ -0,0 +1,44 @@
+package com.example.wordle.benchmark;
+
+import com.example.wordle.config.JwtPrincipal;
+import com.example.wordle.config.JwtUtils;
+import com.example.wordle.config.VerifiedTokenCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// Token issue, a single verification, and a verification served by the token cache
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JwtBenchmark {
+
+  private JwtUtils jwtUtils;
+  private VerifiedTokenCache tokenCache;
+  private String token;
+
+  @Setup
+  public void setUp() {
+    jwtUtils = new JwtUtils("benchmark-secret", 86_400_000L);
+    tokenCache = new VerifiedTokenCache(jwtUtils, 10_000);
+    token = jwtUtils.generateToken("player1", "PLAYER");
+  }
+
+  @Benchmark
+  public String generateToken() {
+    return jwtUtils.generateToken("player1", "PLAYER");
+  }
+
+  @Benchmark
+  public JwtPrincipal verify() {
+    return jwtUtils.verify(token);
+  }
+
+  @Benchmark
+  public JwtPrincipal verifyCached() {
+    return tokenCache.verify(token);
+  }
+}
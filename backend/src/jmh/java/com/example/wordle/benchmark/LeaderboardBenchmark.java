@@ -0,0 +1,55 @@
+package com.example.wordle.benchmark;
+
+import com.example.wordle.engine.ScoreBoard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// One leaderboard at 100k ranked players: a finished game moving a player, the top 10,
+// and a player's own rank, as done by LeaderboardService for each metric
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class LeaderboardBenchmark {
+
+  private static final int PLAYERS = 100_000;
+  // Win rates in hundredths of a percent
+  private static final int MAX_SCORE = 10_000;
+
+  private ScoreBoard board;
+  private final int[] scores = new int[PLAYERS];
+  private Random random;
+
+  @Setup
+  public void setUp() {
+    random = new Random(BenchmarkData.SEED);
+    board = new ScoreBoard(true);
+    for (int id = 0; id < PLAYERS; id++) {
+      scores[id] = random.nextInt(MAX_SCORE + 1);
+      board.move(id, ScoreBoard.NONE, scores[id]);
+    }
+  }
+
+  @Benchmark
+  public void move() {
+    int id = random.nextInt(PLAYERS);
+    int score = random.nextInt(MAX_SCORE + 1);
+    board.move(id, scores[id], score);
+    scores[id] = score;
+  }
+
+  @Benchmark
+  public List<ScoreBoard.Ranked> top10() {
+    return board.top(10);
+  }
+
+  @Benchmark
+  public long rank() {
+    return board.rank(scores[random.nextInt(PLAYERS)]);
+  }
+}
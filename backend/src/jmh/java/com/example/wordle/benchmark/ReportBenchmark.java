@@ -0,0 +1,80 @@
+package com.example.wordle.benchmark;
+
+import com.example.wordle.dto.PlayerDayReport;
+import com.example.wordle.model.DailyStats;
+import com.example.wordle.model.Game;
+import com.example.wordle.model.User;
+import com.example.wordle.repository.DailyStatsRepository;
+import com.example.wordle.repository.GameRepository;
+import com.example.wordle.repository.UserRepository;
+import com.example.wordle.service.DailyRollupService;
+import com.example.wordle.service.ReportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// Admin report services over synthetic data; both aggregations now happen in the
+// database (rollup row, GROUP BY projection), so this measures what remains in-process
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ReportBenchmark {
+
+  private static final LocalDate DAY = LocalDate.of(2025, 6, 1);
+
+  @Param({ "1000", "100000" })
+  public int gameCount;
+
+  private ReportService reportService;
+
+  @Setup
+  public void setUp() {
+    User player = BenchmarkData.player(1L);
+    List<Game> history = BenchmarkData.finishedGames(gameCount, player, BenchmarkData.words(1000), DAY, 365);
+    List<PlayerDayReport> rows = history.stream()
+        .collect(Collectors.groupingBy(game -> game.getFinishedAt().toLocalDate()))
+        .entrySet().stream()
+        .map(entry -> new PlayerDayReport(entry.getKey(), (long) entry.getValue().size(),
+            entry.getValue().stream().filter(Game::getWon).count(), 3.0))
+        .toList();
+
+    GameRepository gameRepository = mock(GameRepository.class, withSettings().stubOnly());
+    UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+
+    when(userRepository.existsById(anyLong())).thenReturn(true);
+    when(gameRepository.findDailyReportByPlayer(anyLong(), any(), any())).thenReturn(rows);
+
+    // Past days are served from their rollup row
+    DailyStatsRepository dailyStatsRepository = mock(DailyStatsRepository.class, withSettings().stubOnly());
+    when(dailyStatsRepository.findById(any())).thenReturn(Optional.of(
+        new DailyStats(DAY, 1L, (long) gameCount, gameCount / 2L, DAY.atTime(23, 59))));
+
+    reportService = new ReportService(gameRepository, userRepository,
+        new DailyRollupService(dailyStatsRepository, gameRepository), new SimpleMeterRegistry(), 500);
+  }
+
+  @Benchmark
+  public Map<String, Object> dailyReport() {
+    return reportService.getDailyReport(DAY.toString());
+  }
+
+  @Benchmark
+  public List<PlayerDayReport> playerReport() {
+    return reportService.getPlayerReport(1L, null, null);
+  }
+}
@@ -0,0 +1,114 @@
+package com.example.wordle.benchmark;
+
+import com.example.wordle.model.Game;
+import com.example.wordle.model.User;
+import com.example.wordle.model.Word;
+import com.example.wordle.repository.AppSettingRepository;
+import com.example.wordle.repository.DailyStatsRepository;
+import com.example.wordle.repository.GameRepository;
+import com.example.wordle.repository.PlayerDailyGamesRepository;
+import com.example.wordle.repository.PlayerStatsRepository;
+import com.example.wordle.repository.UserRepository;
+import com.example.wordle.repository.WordRepository;
+import com.example.wordle.service.AllowedGuesses;
+import com.example.wordle.service.CandidateTracker;
+import com.example.wordle.service.DailyQuotaService;
+import com.example.wordle.service.DailyRollupService;
+import com.example.wordle.service.GameEvents;
+import com.example.wordle.service.GameMetrics;
+import com.example.wordle.service.GameService;
+import com.example.wordle.service.GameSessionStore;
+import com.example.wordle.service.GuessWriteBehind;
+import com.example.wordle.service.LeaderboardService;
+import com.example.wordle.service.PlayerStatsService;
+import com.example.wordle.service.SolvedWordIndex;
+import com.example.wordle.service.WordDictionary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+// GameService.startNewGame with stubbed repositories: measures the in-process
+// work (word selection included) that sits on top of the database round trips
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class StartGameBenchmark {
+
+  @Param({ "1000", "50000" })
+  public int wordCount;
+
+  private GameService gameService;
+  private long nextGameId;
+
+  @Setup
+  public void setUp() {
+    User player = BenchmarkData.player(1L);
+    List<Word> words = BenchmarkData.words(wordCount);
+
+    GameRepository gameRepository = mock(GameRepository.class, withSettings().stubOnly());
+    WordRepository wordRepository = mock(WordRepository.class, withSettings().stubOnly());
+    UserRepository userRepository = mock(UserRepository.class, withSettings().stubOnly());
+
+    when(userRepository.findById(anyLong())).thenReturn(Optional.of(player));
+    when(gameRepository.findUnfinishedStartedBetween(anyLong(), any(), any()))
+        .thenReturn(List.of());
+    when(wordRepository.findByIsActiveTrue()).thenReturn(words);
+    when(wordRepository.findById(anyInt())).thenReturn(Optional.of(words.get(0)));
+    when(gameRepository.findWonWordIdsByPlayerId(anyLong())).thenReturn(solvedIds(words));
+    when(gameRepository.save(any(Game.class))).thenAnswer(invocation -> {
+      Game game = invocation.getArgument(0);
+      game.setId(nextGameId++ & 1023);
+      return game;
+    });
+
+    WordDictionary wordDictionary = new WordDictionary(wordRepository);
+    wordDictionary.rebuild();
+    SolvedWordIndex solvedWordIndex = new SolvedWordIndex(gameRepository, 10_000);
+    GameSessionStore gameSessions = new GameSessionStore(256, Duration.ofMinutes(30));
+    GuessWriteBehind guessWriteBehind = new GuessWriteBehind(mock(JdbcTemplate.class, withSettings().stubOnly()),
+        mock(PlatformTransactionManager.class, withSettings().stubOnly()),
+        GuessWriteBehind.Durability.ASYNC, 500, 50_000, 200, 5);
+    // No streams are open, so publishing is a map miss
+    GameEvents gameEvents = new GameEvents(new SimpleMeterRegistry(), 32, 20_000, 4, 1_800_000, 15_000);
+    gameService = new GameService(gameRepository, wordRepository, userRepository,
+        wordDictionary, solvedWordIndex, gameSessions, guessWriteBehind,
+        new DailyRollupService(mock(DailyStatsRepository.class, withSettings().stubOnly()), gameRepository),
+        new GameMetrics(new SimpleMeterRegistry()),
+        // One player starts every game, so the quota must not run out
+        new DailyQuotaService(mock(PlayerDailyGamesRepository.class, withSettings().stubOnly()), gameRepository,
+            mock(AppSettingRepository.class, withSettings().stubOnly()), gameEvents, Integer.MAX_VALUE),
+        new AllowedGuesses(wordDictionary, new DefaultResourceLoader(), ""),
+        new CandidateTracker(wordDictionary, gameSessions, guessWriteBehind, new SimpleMeterRegistry(), 50),
+        new LeaderboardService(gameRepository, guessWriteBehind, 10, 100),
+        new PlayerStatsService(mock(PlayerStatsRepository.class, withSettings().stubOnly()), gameRepository,
+            userRepository, guessWriteBehind, mock(JdbcTemplate.class, withSettings().stubOnly()), 10_000),
+        gameEvents);
+  }
+
+  // A player who has solved every tenth word
+  private static List<Integer> solvedIds(List<Word> words) {
+    return words.stream().map(Word::getId).filter(id -> id % 10 == 0).toList();
+  }
+
+  @Benchmark
+  public Game startNewGame() {
+    return gameService.startNewGame(1L);
+  }
+}
@@ -0,0 +1,104 @@
+package com.example.wordle.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Platform-thread vs virtual-thread request handling, modelled after the game endpoints:
+// each request blocks on non-database I/O, then takes a per-game stripe lock and holds a
+// pooled connection for one query. The platform executor has Tomcat's default 200 threads;
+// the semaphore stands in for the Hikari pool of the virtual-threads profile.
+// With platform threads the thread count caps throughput; with virtual threads the
+// connection pool does - unless the stripe lock is synchronized, which pins carriers.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ThreadModeBenchmark {
+
+  private static final int REQUESTS = 2000;
+  private static final int PLATFORM_THREADS = 200;
+  private static final int CONNECTIONS = 30;
+  private static final int STRIPES = 256;
+  private static final long IO_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long QUERY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  @Param({ "platform", "virtual" })
+  public String threads;
+
+  @Param({ "reentrant", "synchronized" })
+  public String stripeLock;
+
+  private ExecutorService executor;
+  private final Semaphore connections = new Semaphore(CONNECTIONS, true);
+  private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+  private final Object[] monitors = new Object[STRIPES];
+
+  @Setup
+  public void setUp() {
+    executor = "virtual".equals(threads)
+        ? Executors.newVirtualThreadPerTaskExecutor()
+        : Executors.newFixedThreadPool(PLATFORM_THREADS);
+    for (int i = 0; i < STRIPES; i++) {
+      locks[i] = new ReentrantLock();
+      monitors[i] = new Object();
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  // Time to serve a burst of concurrent requests
+  @Benchmark
+  public void burst() throws InterruptedException {
+    CountDownLatch done = new CountDownLatch(REQUESTS);
+    boolean reentrant = "reentrant".equals(stripeLock);
+    for (int i = 0; i < REQUESTS; i++) {
+      int stripe = i & (STRIPES - 1);
+      executor.execute(() -> {
+        try {
+          handle(stripe, reentrant);
+        } finally {
+          done.countDown();
+        }
+      });
+    }
+    done.await();
+  }
+
+  private void handle(int stripe, boolean reentrant) {
+    LockSupport.parkNanos(IO_NANOS);
+    if (reentrant) {
+      ReentrantLock lock = locks[stripe];
+      lock.lock();
+      try {
+        query();
+      } finally {
+        lock.unlock();
+      }
+    } else {
+      synchronized (monitors[stripe]) {
+        query();
+      }
+    }
+  }
+
+  private void query() {
+    connections.acquireUninterruptibly();
+    try {
+      LockSupport.parkNanos(QUERY_NANOS);
+    } finally {
+      connections.release();
+    }
+  }
+}
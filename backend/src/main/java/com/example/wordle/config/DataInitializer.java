@@ -1,23 +1,30 @@
 package com.example.wordle.config;
 
 import com.example.wordle.model.User;
-import com.example.wordle.model.Word;
 import com.example.wordle.repository.UserRepository;
 import com.example.wordle.repository.WordRepository;
+import com.example.wordle.service.WordImportService;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Configuration
 public class DataInitializer {
 
+  // Runs before any --import-words file, which needs the admin user
   @Bean
+  @Order(Ordered.HIGHEST_PRECEDENCE)
   CommandLineRunner initDatabase(UserRepository userRepo,
       WordRepository wordRepo,
+      WordImportService wordImportService,
       PasswordEncoder passwordEncoder) {
     return args -> {
 
@@ -51,14 +58,9 @@ public class DataInitializer {
             "LIGHT", "MUSIC", "NORTH", "OCEAN", "PEARL",
             "QUIET", "RIVER", "STONE", "TREND", "VIVID");
 
-        for (String w : defaultWords) {
-          Word word = new Word();
-          word.setWord(w);
-          word.setIsActive(true);
-          word.setCreatedAt(LocalDateTime.now());
-          wordRepo.save(word);
-        }
-        System.out.println("✅ 20 default words inserted.");
+        byte[] wordList = String.join("\n", defaultWords).getBytes(StandardCharsets.US_ASCII);
+        long inserted = wordImportService.importStream(new ByteArrayInputStream(wordList), "admin").accepted();
+        System.out.println("✅ " + inserted + " default words inserted.");
       }
     };
   }
@@ -17,10 +17,10 @@ import java.util.Collections;
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-  private final JwtUtils jwtUtils;
+  private final VerifiedTokenCache tokenCache;
 
-  public JwtAuthFilter(JwtUtils jwtUtils) {
-    this.jwtUtils = jwtUtils;
+  public JwtAuthFilter(VerifiedTokenCache tokenCache) {
+    this.tokenCache = tokenCache;
   }
 
   @Override
@@ -29,28 +29,16 @@ public class JwtAuthFilter extends OncePerRequestFilter {
       FilterChain filterChain) throws ServletException, IOException {
 
     String header = request.getHeader("Authorization");
-    String token = null;
-    String username = null;
-
-    if (header != null && header.startsWith("Bearer ")) {
-      token = header.substring(7);
-      try {
-        username = jwtUtils.getUsernameFromToken(token);
-      } catch (Exception e) {
-        // Invalid token, ignore
-      }
-    }
 
-    if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-      if (jwtUtils.validateToken(token)) {
-        String role = jwtUtils.getRoleFromToken(token);
-        if (!role.startsWith("ROLE_")) {
-          role = "ROLE_" + role;
-        }
+    if (header != null && header.startsWith("Bearer ")
+        && SecurityContextHolder.getContext().getAuthentication() == null) {
+      // One verification per request; invalid tokens leave the request unauthenticated
+      JwtPrincipal principal = tokenCache.verify(header.substring(7));
+      if (principal != null) {
         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-            username,
+            principal.username(),
             null,
-            Collections.singletonList(new SimpleGrantedAuthority(role)) // assign role
+            Collections.singletonList(new SimpleGrantedAuthority(principal.role())) // assign role
         );
         authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authToken);
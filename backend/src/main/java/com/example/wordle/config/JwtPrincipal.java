@@ -0,0 +1,7 @@
+package com.example.wordle.config;
+
+import java.time.Instant;
+
+// Claims of a verified token; role always carries the ROLE_ prefix
+public record JwtPrincipal(String username, String role, Instant expiresAt) {
+}
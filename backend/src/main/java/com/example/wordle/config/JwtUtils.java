@@ -37,25 +37,29 @@ public class JwtUtils {
         .sign(algorithm);
   }
 
-  // Validate token
-  public boolean validateToken(String token) {
+  // Verifies the signature and expiry once and returns the claims the filter needs,
+  // or null if the token is invalid
+  public JwtPrincipal verify(String token) {
+    DecodedJWT decodedJWT;
     try {
-      verifier.verify(token);
-      return true;
+      decodedJWT = verifier.verify(token);
     } catch (JWTVerificationException e) {
-      return false;
+      return null;
     }
+    String role = decodedJWT.getClaim("role").asString();
+    if (decodedJWT.getSubject() == null || role == null) {
+      return null;
+    }
+    if (!role.startsWith("ROLE_")) {
+      role = "ROLE_" + role;
+    }
+    Date expiresAt = decodedJWT.getExpiresAt();
+    return new JwtPrincipal(decodedJWT.getSubject(), role,
+        expiresAt != null ? expiresAt.toInstant() : null);
   }
 
-  // Extract username
-  public String getUsernameFromToken(String token) {
-    DecodedJWT decodedJWT = verifier.verify(token);
-    return decodedJWT.getSubject();
-  }
-
-  // Extract role
-  public String getRoleFromToken(String token) {
-    DecodedJWT decodedJWT = verifier.verify(token);
-    return decodedJWT.getClaim("role").asString();
+  // Validate token
+  public boolean validateToken(String token) {
+    return verify(token) != null;
   }
 }
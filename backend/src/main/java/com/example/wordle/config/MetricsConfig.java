@@ -0,0 +1,99 @@
+package com.example.wordle.config;
+
+import com.example.wordle.service.GameSessionStore;
+import com.example.wordle.service.GuessWriteBehind;
+import com.example.wordle.service.PasswordHasher;
+import com.example.wordle.service.WordDictionary;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MetricsConfig {
+
+  private final StatementCounter statementCounter = new StatementCounter();
+
+  @Bean
+  public HibernatePropertiesCustomizer statementCounterCustomizer() {
+    return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCounter);
+  }
+
+  // JPA statements per request, tagged with the matched route so cardinality stays bounded
+  @Bean
+  public FilterRegistrationBean<OncePerRequestFilter> statementCountFilter(MeterRegistry registry) {
+    OncePerRequestFilter filter = new OncePerRequestFilter() {
+      @Override
+      protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+          FilterChain filterChain) throws ServletException, IOException {
+        StatementCounter.start();
+        try {
+          filterChain.doFilter(request, response);
+        } finally {
+          int statements = StatementCounter.stop();
+          Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+          DistributionSummary.builder("wordle.http.jpa.statements")
+              .description("JPA statements executed per request")
+              .tag("method", request.getMethod())
+              .tag("uri", route != null ? route.toString() : "UNKNOWN")
+              .register(registry)
+              .record(statements);
+        }
+      }
+    };
+    FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(filter);
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    registration.addUrlPatterns("/api/*");
+    return registration;
+  }
+
+  // In-memory structures that already keep their own counters
+  @Bean
+  public MeterBinder wordleStateMetrics(GuessWriteBehind guessWriteBehind, GameSessionStore gameSessions,
+      WordDictionary wordDictionary, VerifiedTokenCache tokenCache, PasswordHasher passwordHasher) {
+    return registry -> {
+      Gauge.builder("wordle.guess.writes.queued", guessWriteBehind, GuessWriteBehind::queueDepth)
+          .register(registry);
+      FunctionCounter.builder("wordle.guess.writes.failed.flushes", guessWriteBehind,
+          GuessWriteBehind::failedFlushes).register(registry);
+      FunctionCounter.builder("wordle.guess.writes.dropped", guessWriteBehind,
+          GuessWriteBehind::droppedGuesses).register(registry);
+      Gauge.builder("wordle.sessions.active", gameSessions, GameSessionStore::size)
+          .register(registry);
+      Gauge.builder("wordle.dictionary.words", wordDictionary, WordDictionary::size)
+          .register(registry);
+      Gauge.builder("wordle.jwt.cache.size", tokenCache, VerifiedTokenCache::size)
+          .register(registry);
+      FunctionCounter.builder("wordle.jwt.cache.requests", tokenCache, VerifiedTokenCache::hits)
+          .tag("result", "hit").register(registry);
+      FunctionCounter.builder("wordle.jwt.cache.requests", tokenCache, VerifiedTokenCache::misses)
+          .tag("result", "miss").register(registry);
+      Gauge.builder("wordle.password.queued", passwordHasher, PasswordHasher::queued)
+          .register(registry);
+      FunctionCounter.builder("wordle.password.rejected", passwordHasher, PasswordHasher::rejected)
+          .register(registry);
+      // Time queued for a BCrypt thread, and time hashing, per completed task
+      FunctionTimer.builder("wordle.password.wait", passwordHasher, PasswordHasher::completed,
+          PasswordHasher::totalWaitNanos, TimeUnit.NANOSECONDS).register(registry);
+      FunctionTimer.builder("wordle.password.hash", passwordHasher, PasswordHasher::completed,
+          PasswordHasher::totalHashNanos, TimeUnit.NANOSECONDS).register(registry);
+    };
+  }
+}
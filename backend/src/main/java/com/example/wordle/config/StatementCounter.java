@@ -0,0 +1,30 @@
+package com.example.wordle.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Counts SQL statements Hibernate prepares on the current thread while a request is open.
+// JdbcTemplate writes (write-behind flushes, imports) bypass Hibernate and are not counted.
+public class StatementCounter implements StatementInspector {
+
+  private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+  @Override
+  public String inspect(String sql) {
+    int[] count = COUNT.get();
+    if (count != null) {
+      count[0]++;
+    }
+    return sql;
+  }
+
+  static void start() {
+    COUNT.set(new int[1]);
+  }
+
+  // Statements since start(); clears the counter
+  static int stop() {
+    int[] count = COUNT.get();
+    COUNT.remove();
+    return count != null ? count[0] : 0;
+  }
+}
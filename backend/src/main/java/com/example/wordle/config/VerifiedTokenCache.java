@@ -0,0 +1,143 @@
+package com.example.wordle.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Bounded LRU of recently verified tokens, so a client sending the same token on every
+// request pays for one SHA-256 digest instead of an HMAC check and a JSON parse.
+// Entries are keyed by the digest, so raw bearer tokens are never held, and drop out
+// when the token expires. Only verified tokens are cached; max-entries=0 disables it.
+@Component
+public class VerifiedTokenCache {
+
+  private final JwtUtils jwtUtils;
+  private final int maxEntries;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final LinkedHashMap<ByteBuffer, JwtPrincipal> tokens;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong expired = new AtomicLong();
+
+  public VerifiedTokenCache(JwtUtils jwtUtils,
+      @Value("${jwt.cache.max-entries:10000}") int maxEntries) {
+    this.jwtUtils = jwtUtils;
+    this.maxEntries = maxEntries;
+    this.tokens = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<ByteBuffer, JwtPrincipal> eldest) {
+        return size() > maxEntries;
+      }
+    };
+  }
+
+  // Same contract as JwtUtils.verify: the token's claims, or null if it is invalid
+  public JwtPrincipal verify(String token) {
+    if (maxEntries <= 0) {
+      return jwtUtils.verify(token);
+    }
+
+    ByteBuffer key = digest(token);
+    JwtPrincipal cached = lookup(key);
+    if (cached != null) {
+      hits.incrementAndGet();
+      return cached;
+    }
+    misses.incrementAndGet();
+
+    JwtPrincipal principal = jwtUtils.verify(token);
+    // Tokens without an expiry are not cached, since nothing would ever evict them
+    if (principal != null && principal.expiresAt() != null) {
+      lock.lock();
+      try {
+        tokens.put(key, principal);
+      } finally {
+        lock.unlock();
+      }
+    }
+    return principal;
+  }
+
+  @Scheduled(fixedDelayString = "${jwt.cache.sweep-interval-ms:60000}")
+  public void evictExpired() {
+    Instant now = Instant.now();
+    lock.lock();
+    try {
+      tokens.values().removeIf(principal -> {
+        boolean stale = !principal.expiresAt().isAfter(now);
+        if (stale) {
+          expired.incrementAndGet();
+        }
+        return stale;
+      });
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public Map<String, Object> getStats() {
+    long hitCount = hits.get();
+    long missCount = misses.get();
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("enabled", maxEntries > 0);
+    stats.put("size", size());
+    stats.put("maxEntries", maxEntries);
+    stats.put("hits", hitCount);
+    stats.put("misses", missCount);
+    stats.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+    stats.put("expired", expired.get());
+    return stats;
+  }
+
+  public long hits() {
+    return hits.get();
+  }
+
+  public long misses() {
+    return misses.get();
+  }
+
+  public int size() {
+    lock.lock();
+    try {
+      return tokens.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private JwtPrincipal lookup(ByteBuffer key) {
+    lock.lock();
+    try {
+      JwtPrincipal principal = tokens.get(key);
+      if (principal != null && !principal.expiresAt().isAfter(Instant.now())) {
+        tokens.remove(key);
+        expired.incrementAndGet();
+        return null;
+      }
+      return principal;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static ByteBuffer digest(String token) {
+    try {
+      return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+          .digest(token.getBytes(StandardCharsets.US_ASCII)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+}
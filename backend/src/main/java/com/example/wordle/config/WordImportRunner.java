@@ -0,0 +1,47 @@
+package com.example.wordle.config;
+
+import com.example.wordle.dto.WordImportResult;
+import com.example.wordle.service.WordImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.util.List;
+
+// Imports word lists given on the command line: --import-words=/path/to/words.txt
+// (repeatable). Files are memory-mapped and inserted as the wordle.import.cli-user admin.
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class WordImportRunner implements ApplicationRunner {
+
+  private static final Logger log = LoggerFactory.getLogger(WordImportRunner.class);
+
+  private final WordImportService wordImportService;
+  private final String username;
+
+  public WordImportRunner(WordImportService wordImportService,
+      @Value("${wordle.import.cli-user:admin}") String username) {
+    this.wordImportService = wordImportService;
+    this.username = username;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws Exception {
+    List<String> files = args.getOptionValues("import-words");
+    if (files == null) {
+      return;
+    }
+    for (String file : files) {
+      WordImportResult result = wordImportService.importFile(Path.of(file), username);
+      log.info("Imported {}: {} accepted, {} duplicates, {} rejected in {} ms",
+          file, result.accepted(), result.duplicates(), result.rejected(), result.elapsedMs());
+      result.rejectedSamples().forEach(sample -> log.info("Rejected {}", sample));
+    }
+  }
+}
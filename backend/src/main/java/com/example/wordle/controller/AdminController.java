@@ -1,13 +1,39 @@
 package com.example.wordle.controller;
 
+import com.example.wordle.config.VerifiedTokenCache;
 import com.example.wordle.dto.CreateWordDto;
+import com.example.wordle.dto.CursorPage;
+import com.example.wordle.dto.PlayerDayReport;
+import com.example.wordle.dto.PlayerSummary;
+import com.example.wordle.dto.WordImportResult;
+import com.example.wordle.dto.WordStatsView;
+import com.example.wordle.dto.WordSummary;
 import com.example.wordle.model.Word;
+import com.example.wordle.service.AllowedGuesses;
+import com.example.wordle.service.CandidateTracker;
+import com.example.wordle.service.DailyQuotaService;
+import com.example.wordle.service.ExportService;
+import com.example.wordle.service.GameEvents;
+import com.example.wordle.service.GuessWriteBehind;
+import com.example.wordle.service.HintService;
+import com.example.wordle.service.LeaderboardService;
+import com.example.wordle.service.PasswordHasher;
+import com.example.wordle.service.PlayerStatsService;
 import com.example.wordle.service.ReportService;
+import com.example.wordle.service.WordImportService;
 import com.example.wordle.service.WordService;
+import com.example.wordle.service.WordStatsService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.Principal;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -18,19 +44,57 @@ public class AdminController {
 
   private final WordService wordService;
   private final ReportService reportService;
+  private final GuessWriteBehind guessWriteBehind;
+  private final ExportService exportService;
+  private final WordImportService wordImportService;
+  private final VerifiedTokenCache tokenCache;
+  private final PasswordHasher passwordHasher;
+  private final DailyQuotaService dailyQuota;
+  private final HintService hintService;
+  private final AllowedGuesses allowedGuesses;
+  private final CandidateTracker candidateTracker;
+  private final WordStatsService wordStatsService;
+  private final LeaderboardService leaderboard;
+  private final PlayerStatsService playerStats;
+  private final GameEvents gameEvents;
 
-  public AdminController(WordService wordService, ReportService reportService) {
+  public AdminController(WordService wordService, ReportService reportService,
+      GuessWriteBehind guessWriteBehind, ExportService exportService,
+      WordImportService wordImportService, VerifiedTokenCache tokenCache,
+      PasswordHasher passwordHasher, DailyQuotaService dailyQuota, HintService hintService,
+      AllowedGuesses allowedGuesses, CandidateTracker candidateTracker,
+      WordStatsService wordStatsService, LeaderboardService leaderboard, PlayerStatsService playerStats,
+      GameEvents gameEvents) {
     this.wordService = wordService;
     this.reportService = reportService;
+    this.guessWriteBehind = guessWriteBehind;
+    this.exportService = exportService;
+    this.wordImportService = wordImportService;
+    this.tokenCache = tokenCache;
+    this.passwordHasher = passwordHasher;
+    this.dailyQuota = dailyQuota;
+    this.hintService = hintService;
+    this.allowedGuesses = allowedGuesses;
+    this.candidateTracker = candidateTracker;
+    this.wordStatsService = wordStatsService;
+    this.leaderboard = leaderboard;
+    this.playerStats = playerStats;
+    this.gameEvents = gameEvents;
   }
 
   // Word Management
 
   @GetMapping("/words")
-  public ResponseEntity<?> getAllWords() {
+  public ResponseEntity<?> getWords(@RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50") int limit,
+      @RequestParam(defaultValue = "id") String sort,
+      @RequestParam(defaultValue = "asc") String direction,
+      @RequestParam(required = false) Boolean active) {
     try {
-      List<Word> words = wordService.getAllWords();
+      CursorPage<WordSummary> words = wordService.listWords(cursor, limit, sort, direction, active);
       return ResponseEntity.ok(words);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
     } catch (Exception e) {
       return ResponseEntity.status(500).body(Map.of("error", e.getMessage()));
     }
@@ -67,6 +131,103 @@ public class AdminController {
     }
   }
 
+  // Bulk import of a word list, one word per line
+  @PostMapping("/words/import")
+  public ResponseEntity<?> importWords(@RequestParam("file") MultipartFile file, Principal principal) {
+    try (InputStream in = file.getInputStream()) {
+      WordImportResult result = wordImportService.importStream(in, principal.getName());
+      return ResponseEntity.ok(result);
+    } catch (Exception e) {
+      return ResponseEntity.status(500).body(Map.of("error", e.getMessage()));
+    }
+  }
+
+  @GetMapping("/words/dictionary")
+  public ResponseEntity<Map<String, Object>> dictionaryStats() {
+    return ResponseEntity.ok(wordService.getDictionaryStats());
+  }
+
+  @PostMapping("/words/dictionary/rebuild")
+  public ResponseEntity<?> rebuildDictionary() {
+    try {
+      return ResponseEntity.ok(wordService.rebuildDictionary());
+    } catch (Exception e) {
+      return ResponseEntity.status(500).body(Map.of("error", e.getMessage()));
+    }
+  }
+
+  // Allowed-guess list: size, source and last load
+  @GetMapping("/words/guesses")
+  public ResponseEntity<Map<String, Object>> allowedGuessStats() {
+    return ResponseEntity.ok(allowedGuesses.getStats());
+  }
+
+  // Re-reads wordle.guesses.file without a restart
+  @PostMapping("/words/guesses/reload")
+  public ResponseEntity<?> reloadAllowedGuesses() {
+    try {
+      return ResponseEntity.ok(allowedGuesses.reload());
+    } catch (Exception e) {
+      return ResponseEntity.status(500).body(Map.of("error", e.getMessage()));
+    }
+  }
+
+  // Per-word difficulty from the last word stats run, e.g. the easiest words first:
+  // ?sort=winRate&direction=desc&minGames=20
+  @GetMapping("/words/stats")
+  public ResponseEntity<?> wordStats(@RequestParam(defaultValue = "winRate") String sort,
+      @RequestParam(defaultValue = "asc") String direction,
+      @RequestParam(defaultValue = "50") int limit,
+      @RequestParam(defaultValue = "1") long minGames) {
+    try {
+      List<WordStatsView> stats = wordStatsService.listStats(sort, direction, limit, minGames);
+      return ResponseEntity.ok(stats);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    } catch (Exception e) {
+      return ResponseEntity.status(500).body(Map.of("error", e.getMessage()));
+    }
+  }
+
+  // Runs the word stats job now instead of waiting for wordle.word-stats.cron
+  @PostMapping("/words/stats/recompute")
+  public ResponseEntity<?> recomputeWordStats() {
+    try {
+      return ResponseEntity.ok(wordStatsService.recompute());
+    } catch (Exception e) {
+      return ResponseEntity.status(500).body(Map.of("error", e.getMessage()));
+    }
+  }
+
+  // Reloads the in-memory leaderboards from the games table
+  @PostMapping("/leaderboard/rebuild")
+  public ResponseEntity<?> rebuildLeaderboard() {
+    try {
+      return ResponseEntity.ok(leaderboard.rebuild());
+    } catch (Exception e) {
+      return ResponseEntity.status(500).body(Map.of("error", e.getMessage()));
+    }
+  }
+
+  // Settings
+
+  @GetMapping("/settings/daily-game-limit")
+  public ResponseEntity<Map<String, Object>> dailyGameLimit() {
+    return ResponseEntity.ok(Map.of("limit", dailyQuota.getLimit()));
+  }
+
+  @PutMapping("/settings/daily-game-limit")
+  public ResponseEntity<?> setDailyGameLimit(@RequestParam int limit) {
+    try {
+      dailyQuota.setLimit(limit);
+      return ResponseEntity.ok(Map.of("limit", dailyQuota.getLimit()));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+    } catch (Exception e) {
+      return ResponseEntity.status(500).body(Map.of("error", e.getMessage()));
+    }
+  }
+
   // Daily Report
   @GetMapping("/report/daily/{date}")
   public ResponseEntity<Map<String, Object>> dailyReport(@PathVariable String date) {
@@ -75,9 +236,11 @@ public class AdminController {
   }
 
   @GetMapping("/report/player/{userId}")
-  public ResponseEntity<?> playerReport(@PathVariable Long userId) {
+  public ResponseEntity<?> playerReport(@PathVariable Long userId,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
     try {
-      List<Map<String, Object>> report = reportService.getPlayerReport(userId);
+      List<PlayerDayReport> report = reportService.getPlayerReport(userId, from, to);
       return ResponseEntity.ok(report);
     } catch (Exception e) {
       return ResponseEntity.status(500).body(Map.of("error", e.getMessage()));
@@ -86,12 +249,110 @@ public class AdminController {
 
   // to get list of users with player role
   @GetMapping("/players")
-  public ResponseEntity<?> getAllPlayers() {
+  public ResponseEntity<?> getPlayers(@RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50") int limit) {
     try {
-      List<Map<String, Object>> players = reportService.getAllPlayers();
+      CursorPage<PlayerSummary> players = reportService.getPlayers(cursor, limit);
       return ResponseEntity.ok(players);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
     } catch (Exception e) {
       return ResponseEntity.status(500).body(Map.of("error", e.getMessage()));
     }
   }
+
+  // Write-behind queue depth and flush latency
+  @GetMapping("/stats/guess-writes")
+  public ResponseEntity<Map<String, Object>> guessWriteStats() {
+    return ResponseEntity.ok(guessWriteBehind.getStats());
+  }
+
+  // Verified-token cache size and hit rate
+  @GetMapping("/stats/token-cache")
+  public ResponseEntity<Map<String, Object>> tokenCacheStats() {
+    return ResponseEntity.ok(tokenCache.getStats());
+  }
+
+  // Password hashing pool: queue depth, rejections, wait and hash latency
+  @GetMapping("/stats/password-hashing")
+  public ResponseEntity<Map<String, Object>> passwordHashingStats() {
+    return ResponseEntity.ok(passwordHasher.getStats());
+  }
+
+  // Hint matrix: words covered, memory and last build time
+  @GetMapping("/stats/hints")
+  public ResponseEntity<Map<String, Object>> hintStats() {
+    return ResponseEntity.ok(hintService.getStats());
+  }
+
+  // Remaining-candidate tracking: suspicious wins and mid-game replays
+  @GetMapping("/stats/candidates")
+  public ResponseEntity<Map<String, Object>> candidateStats() {
+    return ResponseEntity.ok(candidateTracker.getStats());
+  }
+
+  // Word stats job: last run, games scanned and chunks
+  @GetMapping("/stats/word-stats")
+  public ResponseEntity<Map<String, Object>> wordStatsJob() {
+    return ResponseEntity.ok(wordStatsService.getStats());
+  }
+
+  // Leaderboards: players ranked per period and the last rebuild
+  @GetMapping("/stats/leaderboard")
+  public ResponseEntity<Map<String, Object>> leaderboardStats() {
+    return ResponseEntity.ok(leaderboard.getStats());
+  }
+
+  // Player stats cards: cache hits, backfills and rows waiting to be written
+  @GetMapping("/stats/player-stats")
+  public ResponseEntity<Map<String, Object>> playerStatsCache() {
+    return ResponseEntity.ok(playerStats.getStats());
+  }
+
+  // Event streams: open connections, events queued and streams closed for falling behind
+  @GetMapping("/stats/events")
+  public ResponseEntity<Map<String, Object>> eventStats() {
+    return ResponseEntity.ok(gameEvents.getStats());
+  }
+
+  // Streaming exports, written straight to the response as pages are read
+
+  @GetMapping("/export/games")
+  public void exportGames(@RequestParam(defaultValue = "ndjson") String format,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      HttpServletResponse response) throws IOException {
+    ExportService.Format exportFormat = exportFormat(format, response);
+    if (exportFormat != null) {
+      startExport(response, exportFormat, "games");
+      exportService.exportGames(exportFormat, from, to, response.getOutputStream());
+    }
+  }
+
+  @GetMapping("/export/guesses")
+  public void exportGuesses(@RequestParam(defaultValue = "ndjson") String format,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      HttpServletResponse response) throws IOException {
+    ExportService.Format exportFormat = exportFormat(format, response);
+    if (exportFormat != null) {
+      startExport(response, exportFormat, "guesses");
+      exportService.exportGuesses(exportFormat, from, to, response.getOutputStream());
+    }
+  }
+
+  private ExportService.Format exportFormat(String format, HttpServletResponse response) throws IOException {
+    try {
+      return ExportService.Format.parse(format);
+    } catch (IllegalArgumentException e) {
+      response.sendError(400, e.getMessage());
+      return null;
+    }
+  }
+
+  private void startExport(HttpServletResponse response, ExportService.Format format, String name) {
+    response.setContentType(format.getContentType());
+    response.setCharacterEncoding("UTF-8");
+    response.setHeader("Content-Disposition", "attachment; filename=\"" + name + "." + format.getExtension() + "\"");
+  }
 }
@@ -6,9 +6,12 @@ import com.example.wordle.dto.AuthResponse;
 import com.example.wordle.model.User;
 import com.example.wordle.service.AuthService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
@@ -23,8 +26,10 @@ public class AuthController {
   public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
     try {
       User user = authService.register(request.getUsername(), request.getPassword(), request.getRole());
-      String token = authService.login(user.getUsername(), request.getPassword());
+      String token = authService.issueToken(user);
       return ResponseEntity.ok(new AuthResponse(token, user.getId(), user.getUsername(), user.getRole()));
+    } catch (RejectedExecutionException e) {
+      return busy(e);
     } catch (Exception e) {
       return ResponseEntity.badRequest().body(new AuthResponse(e.getMessage(), null, null, null));
     }
@@ -36,8 +41,17 @@ public class AuthController {
       String token = authService.login(request.getUsername(), request.getPassword());
       User user = authService.findByUsername(request.getUsername()).orElseThrow();
       return ResponseEntity.ok(new AuthResponse(token, user.getId(), user.getUsername(), user.getRole()));
+    } catch (RejectedExecutionException e) {
+      return busy(e);
     } catch (Exception e) {
       return ResponseEntity.badRequest().body(new AuthResponse(e.getMessage(), null, null, null));
     }
   }
+
+  // Password hashing pool is saturated
+  private ResponseEntity<AuthResponse> busy(RejectedExecutionException e) {
+    return ResponseEntity.status(503)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(new AuthResponse(e.getMessage(), null, null, null));
+  }
 }
@@ -1,31 +1,54 @@
 package com.example.wordle.controller;
 
+import com.example.wordle.dto.GameView;
 import com.example.wordle.dto.GuessRequest;
+import com.example.wordle.dto.GuessView;
+import com.example.wordle.dto.HintView;
+import com.example.wordle.dto.LeaderboardView;
+import com.example.wordle.dto.PlayerStatsView;
 import com.example.wordle.model.Game;
-import com.example.wordle.model.Guess;
+import com.example.wordle.service.DailyQuotaService;
+import com.example.wordle.service.GameEvents;
 import com.example.wordle.service.GameService;
+import com.example.wordle.service.HintService;
+import com.example.wordle.service.LeaderboardService;
+import com.example.wordle.service.PlayerStatsService;
 import jakarta.validation.Valid;
 
 import java.util.List;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/api/player")
 public class PlayerController {
 
   private final GameService gameService;
+  private final DailyQuotaService dailyQuota;
+  private final HintService hintService;
+  private final LeaderboardService leaderboard;
+  private final PlayerStatsService playerStats;
+  private final GameEvents gameEvents;
 
-  public PlayerController(GameService gameService) {
+  public PlayerController(GameService gameService, DailyQuotaService dailyQuota, HintService hintService,
+      LeaderboardService leaderboard, PlayerStatsService playerStats, GameEvents gameEvents) {
     this.gameService = gameService;
+    this.dailyQuota = dailyQuota;
+    this.hintService = hintService;
+    this.leaderboard = leaderboard;
+    this.playerStats = playerStats;
+    this.gameEvents = gameEvents;
   }
 
   @PostMapping("/game/start")
   public ResponseEntity<?> startGame(@RequestParam Long userId) {
     try {
       Game game = gameService.startNewGame(userId);
-      return ResponseEntity.ok(game);
+      return ResponseEntity.ok(GameView.of(game));
     } catch (Exception e) {
       return ResponseEntity.badRequest().body(e.getMessage());
     }
@@ -35,18 +58,39 @@ public class PlayerController {
   public ResponseEntity<?> makeGuess(@PathVariable Long gameId,
       @Valid @RequestBody GuessRequest request) {
     try {
-      Guess guess = gameService.makeGuess(gameId, request.getGuess());
+      GuessView guess = gameService.makeGuess(gameId, request.getGuess());
       return ResponseEntity.ok(guess);
     } catch (Exception e) {
       return ResponseEntity.badRequest().body(e.getMessage());
     }
   }
 
+  // Pushes guess, game and quota events for the player instead of polling the status;
+  // 503 when this node holds wordle.events.max-subscribers streams
+  @GetMapping(value = "/{userId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<SseEmitter> events(@PathVariable Long userId) {
+    try {
+      return ResponseEntity.ok(gameEvents.subscribe(userId));
+    } catch (IllegalStateException e) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+    }
+  }
+
   @GetMapping("/game/{gameId}/status")
   public ResponseEntity<?> gameStatus(@PathVariable Long gameId) {
     try {
-      Game game = gameService.getGameById(gameId);
-      return ResponseEntity.ok(game);
+      return ResponseEntity.ok(gameService.getGameView(gameId));
+    } catch (Exception e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
+  // Best next guess given the feedback so far
+  @GetMapping("/game/{gameId}/hint")
+  public ResponseEntity<?> hint(@PathVariable Long gameId) {
+    try {
+      HintView hint = hintService.hint(gameId);
+      return ResponseEntity.ok(hint);
     } catch (Exception e) {
       return ResponseEntity.badRequest().body(e.getMessage());
     }
@@ -55,11 +99,47 @@ public class PlayerController {
   @GetMapping("/{userId}/games/today")
   public ResponseEntity<?> getGamesPlayedToday(@PathVariable Long userId) {
     try {
-      List<Game> games = gameService.getGamesPlayedToday(userId);
+      List<GameView> games = gameService.getGamesPlayedToday(userId);
       return ResponseEntity.ok(games);
     } catch (Exception e) {
       return ResponseEntity.badRequest().body(e.getMessage());
     }
   }
 
+  // Games, wins, streaks and wins by guesses used
+  @GetMapping("/{userId}/stats")
+  public ResponseEntity<?> getPlayerStats(@PathVariable Long userId) {
+    try {
+      PlayerStatsView stats = playerStats.getPlayerStats(userId);
+      return ResponseEntity.ok(stats);
+    } catch (Exception e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
+  // Games started today against the daily limit
+  @GetMapping("/{userId}/games/quota")
+  public ResponseEntity<?> getDailyQuota(@PathVariable Long userId) {
+    try {
+      return ResponseEntity.ok(dailyQuota.quota(userId));
+    } catch (Exception e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
+
+  // Top players and, with userId, that player's own rank, e.g.
+  // ?period=all-time&metric=win-rate&limit=10&userId=42
+  @GetMapping("/leaderboard")
+  public ResponseEntity<?> getLeaderboard(@RequestParam(defaultValue = "daily") String period,
+      @RequestParam(defaultValue = "wins") String metric,
+      @RequestParam(defaultValue = "10") int limit,
+      @RequestParam(required = false) Long userId) {
+    try {
+      LeaderboardView view = leaderboard.leaderboard(LeaderboardService.Period.parse(period),
+          LeaderboardService.Metric.parse(metric), limit, userId);
+      return ResponseEntity.ok(view);
+    } catch (Exception e) {
+      return ResponseEntity.badRequest().body(e.getMessage());
+    }
+  }
 }
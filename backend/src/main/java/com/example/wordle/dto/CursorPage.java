@@ -0,0 +1,37 @@
+package com.example.wordle.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+// One page of a keyset-paginated listing; nextCursor is null on the last page
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+  // Builds a page from up to limit + 1 rows; the extra row only signals that more exist
+  public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, ?> cursorOf) {
+    if (rows.size() <= limit) {
+      return new CursorPage<>(rows, null);
+    }
+    List<T> items = rows.subList(0, limit);
+    return new CursorPage<>(items, String.valueOf(cursorOf.apply(items.get(limit - 1))));
+  }
+
+  // Numeric key of a cursor from an earlier page, or null for the first page
+  public static Long longKey(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+    try {
+      return Long.valueOf(cursor);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+  }
+
+  public static Integer intKey(String cursor) {
+    Long key = longKey(cursor);
+    if (key != null && (key < Integer.MIN_VALUE || key > Integer.MAX_VALUE)) {
+      throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+    return key == null ? null : key.intValue();
+  }
+}
@@ -0,0 +1,9 @@
+package com.example.wordle.dto;
+
+import java.time.LocalDateTime;
+
+// Flat game row for admin exports
+public record GameExportRow(Long id, Long playerId, Integer wordId, String word, Boolean won,
+    Integer guessesAllowed, Integer guessesMade, Boolean finished,
+    LocalDateTime startedAt, LocalDateTime finishedAt) {
+}
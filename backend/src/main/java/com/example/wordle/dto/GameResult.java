@@ -0,0 +1,7 @@
+package com.example.wordle.dto;
+
+import java.time.LocalDateTime;
+
+// Outcome of one finished game, for replaying a player's history
+public record GameResult(Long id, Boolean won, Integer guessesMade, LocalDateTime finishedAt) {
+}
@@ -0,0 +1,21 @@
+package com.example.wordle.dto;
+
+import com.example.wordle.model.Game;
+
+import java.time.LocalDateTime;
+
+// Player-facing game state; the target word is only included once the game is over
+public record GameView(Long id, Integer guessesAllowed, Integer guessesMade, Boolean won,
+    Boolean finished, LocalDateTime startedAt, LocalDateTime finishedAt, String word) {
+
+  public GameView {
+    if (!Boolean.TRUE.equals(finished)) {
+      word = null;
+    }
+  }
+
+  public static GameView of(Game game) {
+    return new GameView(game.getId(), game.getGuessesAllowed(), game.getGuessesMade(), game.getWon(),
+        game.getFinished(), game.getStartedAt(), game.getFinishedAt(), game.getWord().getWord());
+  }
+}
@@ -0,0 +1,8 @@
+package com.example.wordle.dto;
+
+import java.time.LocalDateTime;
+
+// Flat guess row for admin exports
+public record GuessExportRow(Long id, Long gameId, String guessedWord, String feedback,
+    LocalDateTime guessedAt, Integer candidatesRemaining) {
+}
@@ -0,0 +1,25 @@
+package com.example.wordle.dto;
+
+import com.example.wordle.model.Game;
+import com.example.wordle.model.Guess;
+
+import java.time.LocalDateTime;
+
+// One scored guess and the game state it left behind; word is revealed once the game is over
+public record GuessView(Long gameId, String guessedWord, String feedback, LocalDateTime guessedAt,
+    Integer guessesMade, Integer guessesAllowed, Boolean won, Boolean finished, String word,
+    Integer candidatesRemaining) {
+
+  public GuessView {
+    if (!Boolean.TRUE.equals(finished)) {
+      word = null;
+    }
+  }
+
+  public static GuessView of(Guess guess) {
+    Game game = guess.getGame();
+    return new GuessView(game.getId(), guess.getGuessedWord(), guess.getFeedback(), guess.getGuessedAt(),
+        game.getGuessesMade(), game.getGuessesAllowed(), game.getWon(), game.getFinished(),
+        game.getWord().getWord(), guess.getCandidatesRemaining());
+  }
+}
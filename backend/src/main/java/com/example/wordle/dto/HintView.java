@@ -0,0 +1,6 @@
+package com.example.wordle.dto;
+
+// Suggested next guess; candidate is true when the suggestion could itself be the answer
+public record HintView(Long gameId, String suggestion, double expectedBits, int candidatesRemaining,
+    boolean candidate) {
+}
@@ -0,0 +1,5 @@
+package com.example.wordle.dto;
+
+// One leaderboard row; players with equal scores share a rank
+public record LeaderboardEntry(long rank, Long playerId, String username, double score, long games, long wins) {
+}
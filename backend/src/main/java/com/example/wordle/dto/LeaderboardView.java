@@ -0,0 +1,10 @@
+package com.example.wordle.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Top of a leaderboard, plus the requesting player's own row when asked for; date is null
+// for the all-time boards and player is null when unranked
+public record LeaderboardView(String period, String metric, LocalDate date, long players,
+    List<LeaderboardEntry> top, LeaderboardEntry player) {
+}
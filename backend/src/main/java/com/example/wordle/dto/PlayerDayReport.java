@@ -0,0 +1,7 @@
+package com.example.wordle.dto;
+
+import java.time.LocalDate;
+
+// One row of the per-player report: games finished on a day
+public record PlayerDayReport(LocalDate date, Long attempts, Long wins, Double averageGuesses) {
+}
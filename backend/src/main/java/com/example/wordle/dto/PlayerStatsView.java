@@ -0,0 +1,10 @@
+package com.example.wordle.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// A player's stats card; guessDistribution[n - 1] is the wins in n guesses, the last
+// bucket also counting any longer win
+public record PlayerStatsView(Long playerId, long gamesPlayed, long gamesWon, double winRate,
+    int currentStreak, int maxStreak, List<Long> guessDistribution, LocalDateTime lastFinishedAt) {
+}
@@ -0,0 +1,7 @@
+package com.example.wordle.dto;
+
+import java.time.LocalDateTime;
+
+// Admin player listing row
+public record PlayerSummary(Long id, String username, LocalDateTime createdAt) {
+}
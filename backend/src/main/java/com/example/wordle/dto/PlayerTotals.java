@@ -0,0 +1,5 @@
+package com.example.wordle.dto;
+
+// Finished games of one player: how many, how many won, and guesses used across the wins
+public record PlayerTotals(Long playerId, String username, Long games, Long wins, Long guessesToWin) {
+}
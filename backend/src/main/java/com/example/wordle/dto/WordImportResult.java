@@ -0,0 +1,8 @@
+package com.example.wordle.dto;
+
+import java.util.List;
+
+// Outcome of a bulk word import; rejectedSamples holds the first few rejected lines
+public record WordImportResult(long lines, long accepted, long duplicates, long rejected,
+    List<String> rejectedSamples, long elapsedMs) {
+}
@@ -0,0 +1,7 @@
+package com.example.wordle.dto;
+
+import com.example.wordle.model.WordStats;
+
+// A word's difficulty row with the word itself, for the admin listing
+public record WordStatsView(String word, Boolean active, WordStats stats) {
+}
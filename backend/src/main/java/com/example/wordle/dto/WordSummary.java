@@ -0,0 +1,8 @@
+package com.example.wordle.dto;
+
+import java.time.LocalDateTime;
+
+// Admin word listing row
+public record WordSummary(Integer id, String word, Boolean isActive, String createdBy,
+    LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,74 @@
+package com.example.wordle.engine;
+
+import java.util.Arrays;
+
+// One game's remaining answers: a bitset over word ids narrowed by each guess, plus the
+// guesses themselves so the set can be re-derived when the dictionary changes.
+// Not thread-safe; a game's guesses are already serialized by its session lock.
+public final class CandidateSet {
+
+  private long version;
+  private long[] candidates;
+  private int remaining;
+  private int[] guesses = new int[6];
+  private int[] codes = new int[6];
+  private int guessCount;
+
+  private CandidateSet(LetterIndex index) {
+    reset(index);
+  }
+
+  // Every word in the index, before any guess
+  public static CandidateSet start(LetterIndex index) {
+    return new CandidateSet(index);
+  }
+
+  // The set after the given guesses and their feedback codes, in order
+  public static CandidateSet replay(LetterIndex index, int[] guesses, int[] codes) {
+    CandidateSet set = new CandidateSet(index);
+    for (int i = 0; i < guesses.length; i++) {
+      set.narrow(index, guesses[i], codes[i]);
+    }
+    return set;
+  }
+
+  // Applies one guess and returns the candidates left; a set built on an older index is
+  // first re-derived from its guesses
+  public int narrow(LetterIndex index, int guess, int code) {
+    if (index.version() != version) {
+      reset(index);
+      for (int i = 0; i < guessCount; i++) {
+        index.narrow(candidates, guesses[i], codes[i]);
+      }
+    }
+    index.narrow(candidates, guess, code);
+    remaining = LetterIndex.count(candidates);
+
+    if (guessCount == guesses.length) {
+      guesses = Arrays.copyOf(guesses, guessCount * 2);
+      codes = Arrays.copyOf(codes, guessCount * 2);
+    }
+    guesses[guessCount] = guess;
+    codes[guessCount++] = code;
+    return remaining;
+  }
+
+  public int remaining() {
+    return remaining;
+  }
+
+  public int guessCount() {
+    return guessCount;
+  }
+
+  // Packed guesses so far, in order
+  public int[] guesses() {
+    return Arrays.copyOf(guesses, guessCount);
+  }
+
+  private void reset(LetterIndex index) {
+    version = index.version();
+    candidates = index.all();
+    remaining = index.size();
+  }
+}
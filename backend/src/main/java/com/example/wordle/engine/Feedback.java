@@ -0,0 +1,81 @@
+package com.example.wordle.engine;
+
+// Allocation-free Wordle scoring over packed words.
+// Feedback is a base-3 code in [0, 243): digit i is 0 (absent), 1 (present) or 2 (correct)
+// for position i, so "GGGGG" is 242 and a code fits in a byte.
+public final class Feedback {
+
+  public static final int CODES = 243;
+  public static final int ALL_GREEN = CODES - 1;
+
+  private static final int ABSENT = 0;
+  private static final int PRESENT = 1;
+  private static final int CORRECT = 2;
+
+  private static final int[] POW3 = { 1, 3, 9, 27, 81 };
+  private static final String[] PATTERNS = new String[CODES];
+
+  static {
+    char[] chars = new char[PackedWord.LENGTH];
+    for (int code = 0; code < CODES; code++) {
+      for (int i = 0; i < PackedWord.LENGTH; i++) {
+        int digit = (code / POW3[i]) % 3;
+        chars[i] = digit == CORRECT ? 'G' : digit == PRESENT ? 'O' : '-';
+      }
+      PATTERNS[code] = new String(chars);
+    }
+  }
+
+  private Feedback() {
+  }
+
+  // Same rules as the original string generator: greens first, then each remaining
+  // guess letter consumes the leftmost unused matching target letter.
+  public static int score(int target, int guess) {
+    int used = 0;
+    int code = 0;
+
+    // First pass: correct letters in correct position
+    for (int i = 0; i < PackedWord.LENGTH; i++) {
+      if (PackedWord.letterAt(target, i) == PackedWord.letterAt(guess, i)) {
+        used |= 1 << i;
+        code += CORRECT * POW3[i];
+      }
+    }
+
+    // Second pass: correct letters in wrong position
+    int greens = used;
+    for (int i = 0; i < PackedWord.LENGTH; i++) {
+      if ((greens & (1 << i)) != 0) {
+        continue;
+      }
+      int letter = PackedWord.letterAt(guess, i);
+      for (int j = 0; j < PackedWord.LENGTH; j++) {
+        if ((used & (1 << j)) == 0 && PackedWord.letterAt(target, j) == letter) {
+          used |= 1 << j;
+          code += PRESENT * POW3[i];
+          break;
+        }
+      }
+    }
+
+    return code;
+  }
+
+  public static int digitAt(int code, int position) {
+    return (code / POW3[position]) % 3;
+  }
+
+  public static boolean isCorrect(int code, int position) {
+    return digitAt(code, position) == CORRECT;
+  }
+
+  public static boolean isAbsent(int code, int position) {
+    return digitAt(code, position) == ABSENT;
+  }
+
+  // "G/O/-" form used by the API and the guesses table; returns a shared instance
+  public static String toPattern(int code) {
+    return PATTERNS[code];
+  }
+}
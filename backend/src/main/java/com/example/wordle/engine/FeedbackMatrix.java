@@ -0,0 +1,298 @@
+package com.example.wordle.engine;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+// Feedback code of every word guessed against every other word, one byte per pair:
+// code(g, t) = Feedback.score(word t, word g). Rows are guess-major, so scoring one guess
+// against a candidate list reads a single row.
+// Words live in slots; a removed slot is recycled by the next add. Not thread-safe:
+// callers serialize changes against reads.
+public final class FeedbackMatrix {
+
+  // Rows per fork/join leaf when building, guesses per leaf when ranking
+  private static final int BUILD_GRAIN = 32;
+  private static final int RANK_GRAIN = 256;
+
+  // Result of ranking: the guess slot with the highest expected information, in bits
+  public record Ranking(int slot, double bits, boolean candidate) {
+  }
+
+  private final ForkJoinPool pool;
+  private int[] words;
+  private byte[][] rows;
+  private long[] live;
+  private int[] free;
+  private int freeCount;
+  private int slots;
+  private int size;
+
+  private FeedbackMatrix(ForkJoinPool pool, int capacity) {
+    this.pool = pool;
+    this.words = new int[capacity];
+    Arrays.fill(words, PackedWord.INVALID);
+    this.rows = new byte[capacity][];
+    this.live = new long[bitsetLength(capacity)];
+    this.free = new int[16];
+  }
+
+  // Full matrix over the given packed words, slot i holding words[i]; rows are filled in
+  // parallel on pool
+  public static FeedbackMatrix build(int[] words, ForkJoinPool pool) {
+    FeedbackMatrix matrix = new FeedbackMatrix(pool, words.length);
+    System.arraycopy(words, 0, matrix.words, 0, words.length);
+    matrix.slots = words.length;
+    matrix.size = words.length;
+    for (int slot = 0; slot < words.length; slot++) {
+      matrix.live[slot >>> 6] |= 1L << slot;
+    }
+    pool.invoke(matrix.new BuildRows(0, words.length));
+    return matrix;
+  }
+
+  // Adds a word in O(size): one new row plus one new column. Returns its slot.
+  public int add(int packed) {
+    int slot;
+    if (freeCount > 0) {
+      slot = free[--freeCount];
+    } else {
+      if (slots == words.length) {
+        grow();
+      }
+      slot = slots++;
+      rows[slot] = new byte[words.length];
+    }
+    words[slot] = packed;
+    live[slot >>> 6] |= 1L << slot;
+    size++;
+    fill(slot);
+    return slot;
+  }
+
+  public void remove(int slot) {
+    if (!isLive(slot)) {
+      return;
+    }
+    live[slot >>> 6] &= ~(1L << slot);
+    words[slot] = PackedWord.INVALID;
+    size--;
+    if (freeCount == free.length) {
+      free = Arrays.copyOf(free, freeCount * 2);
+    }
+    free[freeCount++] = slot;
+  }
+
+  public boolean isLive(int slot) {
+    return slot >= 0 && slot < slots && (live[slot >>> 6] & (1L << slot)) != 0;
+  }
+
+  public int word(int slot) {
+    return isLive(slot) ? words[slot] : PackedWord.INVALID;
+  }
+
+  public int code(int guessSlot, int targetSlot) {
+    return rows[guessSlot][targetSlot] & 0xFF;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  // Slots allocated so far, live or free; bounds any slot bitset
+  public int slots() {
+    return slots;
+  }
+
+  // Bytes held by the rows
+  public long bytes() {
+    return (long) slots * words.length;
+  }
+
+  // Live slots whose word would have produced code for a guess; guessSlot is the guess's
+  // own slot, or -1 for a word outside the matrix, which is then scored directly
+  public long[] consistent(long[] candidates, int guess, int guessSlot, int code) {
+    long[] result = new long[bitsetLength(slots)];
+    for (int i = 0; i < result.length && i < candidates.length; i++) {
+      long bits = candidates[i] & live[i];
+      while (bits != 0) {
+        int slot = (i << 6) + Long.numberOfTrailingZeros(bits);
+        bits &= bits - 1;
+        int actual = guessSlot >= 0 ? code(guessSlot, slot) : Feedback.score(words[slot], guess);
+        if (actual == code) {
+          result[i] |= 1L << slot;
+        }
+      }
+    }
+    return result;
+  }
+
+  // Every live slot, as a candidate bitset
+  public long[] all() {
+    return Arrays.copyOf(live, bitsetLength(slots));
+  }
+
+  // The live guess that splits candidates into the most even feedback groups, i.e. with
+  // the highest entropy over the candidates' codes. Ties go to a guess that is itself a
+  // candidate, then to the lower slot. Returns null when there are no candidates.
+  public Ranking best(long[] candidates) {
+    int[] targets = slotsOf(candidates);
+    if (targets.length == 0) {
+      return null;
+    }
+    // n log2 n for every group size, so the inner loop does no logarithms
+    double[] nLogN = new double[targets.length + 1];
+    for (int n = 2; n <= targets.length; n++) {
+      nLogN[n] = n * (Math.log(n) / Math.log(2));
+    }
+    RankGuesses task = new RankGuesses(targets, candidates, nLogN, 0, slots);
+    long work = (long) slots * targets.length;
+    return work < RANK_GRAIN * 1024L ? task.compute() : pool.invoke(task);
+  }
+
+  private int[] slotsOf(long[] candidates) {
+    int count = 0;
+    for (int i = 0; i < candidates.length && i < live.length; i++) {
+      count += Long.bitCount(candidates[i] & live[i]);
+    }
+    int[] result = new int[count];
+    int n = 0;
+    for (int i = 0; i < candidates.length && i < live.length; i++) {
+      long bits = candidates[i] & live[i];
+      while (bits != 0) {
+        result[n++] = (i << 6) + Long.numberOfTrailingZeros(bits);
+        bits &= bits - 1;
+      }
+    }
+    return result;
+  }
+
+  private void fill(int slot) {
+    int word = words[slot];
+    byte[] row = rows[slot];
+    for (int other = 0; other < slots; other++) {
+      if (isLive(other)) {
+        row[other] = (byte) Feedback.score(words[other], word);
+        rows[other][slot] = (byte) Feedback.score(word, words[other]);
+      }
+    }
+  }
+
+  // Half as much again; every row is widened so new words get a column
+  private void grow() {
+    int capacity = words.length + (words.length >>> 1) + 16;
+    words = Arrays.copyOf(words, capacity);
+    Arrays.fill(words, slots, capacity, PackedWord.INVALID);
+    rows = Arrays.copyOf(rows, capacity);
+    for (int slot = 0; slot < slots; slot++) {
+      rows[slot] = Arrays.copyOf(rows[slot], capacity);
+    }
+    live = Arrays.copyOf(live, bitsetLength(capacity));
+  }
+
+  private static int bitsetLength(int bits) {
+    return (bits + 63) >>> 6;
+  }
+
+  private final class BuildRows extends RecursiveAction {
+
+    private final int from;
+    private final int to;
+
+    BuildRows(int from, int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > BUILD_GRAIN) {
+        int middle = (from + to) >>> 1;
+        invokeAll(new BuildRows(from, middle), new BuildRows(middle, to));
+        return;
+      }
+      for (int guess = from; guess < to; guess++) {
+        byte[] row = new byte[words.length];
+        int word = words[guess];
+        for (int target = 0; target < slots; target++) {
+          row[target] = (byte) Feedback.score(words[target], word);
+        }
+        rows[guess] = row;
+      }
+    }
+  }
+
+  private final class RankGuesses extends RecursiveTask<Ranking> {
+
+    private final int[] targets;
+    private final long[] candidates;
+    private final double[] nLogN;
+    private final int from;
+    private final int to;
+
+    RankGuesses(int[] targets, long[] candidates, double[] nLogN, int from, int to) {
+      this.targets = targets;
+      this.candidates = candidates;
+      this.nLogN = nLogN;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Ranking compute() {
+      if (to - from > RANK_GRAIN && (long) (to - from) * targets.length > RANK_GRAIN * 1024L) {
+        int middle = (from + to) >>> 1;
+        RankGuesses right = new RankGuesses(targets, candidates, nLogN, middle, to);
+        right.fork();
+        Ranking left = new RankGuesses(targets, candidates, nLogN, from, middle).compute();
+        return better(left, right.join());
+      }
+
+      int[] groups = new int[Feedback.CODES];
+      // Codes with a non-empty group, so few candidates do not pay for all 243 codes
+      int[] touched = new int[Feedback.CODES];
+      double total = nLogN[targets.length];
+      Ranking best = null;
+      for (int guess = from; guess < to; guess++) {
+        if (!isLive(guess)) {
+          continue;
+        }
+        byte[] row = rows[guess];
+        int distinct = 0;
+        for (int target : targets) {
+          int code = row[target] & 0xFF;
+          if (groups[code]++ == 0) {
+            touched[distinct++] = code;
+          }
+        }
+        // H = log2 n - sum(c log2 c) / n over the feedback groups
+        double sum = 0;
+        for (int i = 0; i < distinct; i++) {
+          int code = touched[i];
+          sum += nLogN[groups[code]];
+          groups[code] = 0;
+        }
+        double bits = (total - sum) / targets.length;
+        boolean candidate = guess < candidates.length << 6 && (candidates[guess >>> 6] & (1L << guess)) != 0;
+        best = better(best, new Ranking(guess, bits, candidate));
+      }
+      return best;
+    }
+  }
+
+  private static Ranking better(Ranking a, Ranking b) {
+    if (a == null || b == null) {
+      return a == null ? b : a;
+    }
+    // Exact ties only happen on identical partitions, so compare with a small tolerance
+    double difference = a.bits() - b.bits();
+    if (Math.abs(difference) > 1e-9) {
+      return difference > 0 ? a : b;
+    }
+    if (a.candidate() != b.candidate()) {
+      return a.candidate() ? a : b;
+    }
+    return a.slot() <= b.slot() ? a : b;
+  }
+}
@@ -0,0 +1,134 @@
+package com.example.wordle.engine;
+
+// Letter bitsets over a word table indexed by word id: the words with letter l at position
+// p, and the words with at least c copies of letter l. One guess's feedback becomes a
+// per-position letter mask (green: that letter only; yellow or grey: not that letter) and
+// a min/max count per guessed letter, so narrowing a candidate set is a few AND / AND-NOT
+// passes over longs with no word scored. Immutable; built per dictionary version.
+public final class LetterIndex {
+
+  private static final int LETTERS = 26;
+
+  private final long version;
+  private final long[] all;
+  private final int size;
+  // [position * 26 + letter]
+  private final long[][] atPosition;
+  // [letter * 5 + count - 1]: words with at least count copies of letter
+  private final long[][] atLeast;
+
+  private LetterIndex(long version, long[] all, int size, long[][] atPosition, long[][] atLeast) {
+    this.version = version;
+    this.all = all;
+    this.size = size;
+    this.atPosition = atPosition;
+    this.atLeast = atLeast;
+  }
+
+  // packedById[id] is the word with that id, or PackedWord.INVALID for no word
+  public static LetterIndex build(int[] packedById, long version) {
+    int length = bitsetLength(packedById.length);
+    long[] all = new long[length];
+    long[][] atPosition = new long[PackedWord.LENGTH * LETTERS][length];
+    long[][] atLeast = new long[LETTERS * PackedWord.LENGTH][length];
+    int size = 0;
+    int[] counts = new int[LETTERS];
+    for (int id = 0; id < packedById.length; id++) {
+      int packed = packedById[id];
+      if (packed == PackedWord.INVALID) {
+        continue;
+      }
+      int word = id >>> 6;
+      long bit = 1L << id;
+      all[word] |= bit;
+      size++;
+      for (int p = 0; p < PackedWord.LENGTH; p++) {
+        int letter = PackedWord.letterAt(packed, p);
+        atPosition[p * LETTERS + letter][word] |= bit;
+        // The n-th copy of a letter puts the word in the "at least n" set
+        atLeast[letter * PackedWord.LENGTH + counts[letter]++][word] |= bit;
+      }
+      for (int p = 0; p < PackedWord.LENGTH; p++) {
+        counts[PackedWord.letterAt(packed, p)] = 0;
+      }
+    }
+    return new LetterIndex(version, all, size, atPosition, atLeast);
+  }
+
+  public long version() {
+    return version;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  // Every word, as a fresh candidate bitset
+  public long[] all() {
+    return all.clone();
+  }
+
+  // Drops, in place, the candidates that would not have given code to guess
+  public void narrow(long[] candidates, int guess, int code) {
+    // At most one set per position and two per distinct letter
+    long[][] sets = new long[3 * PackedWord.LENGTH][];
+    boolean[] exclude = new boolean[sets.length];
+    int n = 0;
+
+    int seen = 0;
+    for (int p = 0; p < PackedWord.LENGTH; p++) {
+      int letter = PackedWord.letterAt(guess, p);
+      sets[n] = atPosition[p * LETTERS + letter];
+      exclude[n++] = !Feedback.isCorrect(code, p);
+
+      if ((seen & (1 << letter)) != 0) {
+        continue;
+      }
+      seen |= 1 << letter;
+      // Green and yellow copies give a minimum; any grey copy caps the count at that minimum
+      int marked = 0;
+      boolean absent = false;
+      for (int q = p; q < PackedWord.LENGTH; q++) {
+        if (PackedWord.letterAt(guess, q) == letter) {
+          if (Feedback.isAbsent(code, q)) {
+            absent = true;
+          } else {
+            marked++;
+          }
+        }
+      }
+      if (marked > 0) {
+        sets[n] = atLeast[letter * PackedWord.LENGTH + marked - 1];
+        exclude[n++] = false;
+      }
+      if (absent) {
+        sets[n] = atLeast[letter * PackedWord.LENGTH + marked];
+        exclude[n++] = true;
+      }
+    }
+
+    int length = Math.min(candidates.length, all.length);
+    for (int i = 0; i < length; i++) {
+      long bits = candidates[i];
+      for (int s = 0; s < n && bits != 0; s++) {
+        bits &= exclude[s] ? ~sets[s][i] : sets[s][i];
+      }
+      candidates[i] = bits;
+    }
+    for (int i = length; i < candidates.length; i++) {
+      candidates[i] = 0;
+    }
+  }
+
+  public static int count(long[] candidates) {
+    int count = 0;
+    for (long bits : candidates) {
+      count += Long.bitCount(bits);
+    }
+    return count;
+  }
+
+  private static int bitsetLength(int bits) {
+    return (bits + 63) >>> 6;
+  }
+}
@@ -0,0 +1,55 @@
+package com.example.wordle.engine;
+
+// Packs a 5-letter word into an int: letter i (A=0..Z=25) lives in bits [5*i, 5*i+5).
+// Words are encoded once and then compared with shifts and masks only.
+public final class PackedWord {
+
+  public static final int LENGTH = 5;
+  public static final int INVALID = -1;
+  // Number of distinct five-letter words, 26^5; the range of rank()
+  public static final int RANKS = 26 * 26 * 26 * 26 * 26;
+
+  private static final int LETTER_BITS = 5;
+  private static final int LETTER_MASK = 0x1F;
+
+  private PackedWord() {
+  }
+
+  // Case-insensitive; returns INVALID unless the input is exactly five ASCII letters
+  public static int encode(CharSequence word) {
+    if (word == null || word.length() != LENGTH) {
+      return INVALID;
+    }
+    int packed = 0;
+    for (int i = 0; i < LENGTH; i++) {
+      int letter = (word.charAt(i) | 0x20) - 'a';
+      if (letter < 0 || letter > 25) {
+        return INVALID;
+      }
+      packed |= letter << (i * LETTER_BITS);
+    }
+    return packed;
+  }
+
+  public static int letterAt(int packed, int position) {
+    return (packed >>> (position * LETTER_BITS)) & LETTER_MASK;
+  }
+
+  // Dense base-26 index in [0, RANKS), for bitsets over every possible word
+  public static int rank(int packed) {
+    int rank = 0;
+    for (int i = LENGTH - 1; i >= 0; i--) {
+      rank = rank * 26 + letterAt(packed, i);
+    }
+    return rank;
+  }
+
+  // Uppercase form, only needed when a packed word has to leave the engine
+  public static String decode(int packed) {
+    char[] chars = new char[LENGTH];
+    for (int i = 0; i < LENGTH; i++) {
+      chars[i] = (char) ('A' + letterAt(packed, i));
+    }
+    return new String(chars);
+  }
+}
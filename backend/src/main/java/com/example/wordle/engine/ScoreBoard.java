@@ -0,0 +1,111 @@
+package com.example.wordle.engine;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// Players ordered by a non-negative integer score, best first, ties by player id.
+// The order is a skip list, so top-K reads walk its head without locking; a Fenwick tree
+// of player counts per score answers "how many are strictly better" for a rank in
+// O(log max score). Moves are O(log n) and serialized per board.
+public final class ScoreBoard {
+
+  // Score of a player not on the board
+  public static final int NONE = -1;
+
+  public record Ranked(long rank, long playerId, int score) {
+  }
+
+  private record Entry(int score, long playerId) {
+  }
+
+  private final boolean higherIsBetter;
+  private final ConcurrentSkipListSet<Entry> order;
+  // 1-based; score s is counted at index s + 1. Length is a power of two plus one.
+  private int[] tree = new int[1024 + 1];
+  private int size;
+
+  public ScoreBoard(boolean higherIsBetter) {
+    this.higherIsBetter = higherIsBetter;
+    Comparator<Entry> byScore = Comparator.comparingInt(Entry::score);
+    this.order = new ConcurrentSkipListSet<>(
+        (higherIsBetter ? byScore.reversed() : byScore).thenComparingLong(Entry::playerId));
+  }
+
+  // Moves a player from oldScore to newScore; either may be NONE
+  public synchronized void move(long playerId, int oldScore, int newScore) {
+    if (oldScore == newScore) {
+      return;
+    }
+    if (oldScore != NONE) {
+      order.remove(new Entry(oldScore, playerId));
+      add(oldScore, -1);
+      size--;
+    }
+    if (newScore != NONE) {
+      add(newScore, 1);
+      size++;
+      order.add(new Entry(newScore, playerId));
+    }
+  }
+
+  // Competition rank of score: one more than the players strictly better
+  public synchronized long rank(int score) {
+    int better = higherIsBetter ? size - prefix(score + 1) : prefix(score);
+    return better + 1L;
+  }
+
+  public synchronized int size() {
+    return size;
+  }
+
+  // The best limit players; a move running alongside may or may not be seen
+  public List<Ranked> top(int limit) {
+    List<Ranked> top = new ArrayList<>(Math.min(limit, 64));
+    long rank = 0;
+    int previous = NONE;
+    for (Entry entry : order) {
+      if (top.size() == limit) {
+        break;
+      }
+      if (entry.score() != previous) {
+        rank = top.size() + 1;
+        previous = entry.score();
+      }
+      top.add(new Ranked(rank, entry.playerId(), entry.score()));
+    }
+    return top;
+  }
+
+  private void add(int score, int delta) {
+    if (score < 0) {
+      throw new IllegalArgumentException("Score must not be negative: " + score);
+    }
+    while (score + 1 >= tree.length) {
+      grow();
+    }
+    for (int i = score + 1; i < tree.length; i += i & -i) {
+      tree[i] += delta;
+    }
+  }
+
+  // Players with a score below score
+  private int prefix(int score) {
+    int count = 0;
+    for (int i = Math.min(score, tree.length - 1); i > 0; i -= i & -i) {
+      count += tree[i];
+    }
+    return count;
+  }
+
+  // Doubles the tree: existing nodes keep their ranges, the new top node covers everything
+  // and the other new nodes cover empty scores
+  private void grow() {
+    int capacity = tree.length - 1;
+    int[] grown = new int[capacity * 2 + 1];
+    System.arraycopy(tree, 0, grown, 0, tree.length);
+    grown[capacity * 2] = size;
+    tree = grown;
+  }
+}
@@ -0,0 +1,91 @@
+package com.example.wordle.engine;
+
+import java.util.Arrays;
+
+// Immutable set of five-letter words, one bit per PackedWord.rank: 26^5 bits, about 1.5MB
+// however many words it holds. Lookups are a multiply-add per letter and one array read.
+public final class WordSet {
+
+  private static final int LENGTH = (PackedWord.RANKS + 63) >>> 6;
+  private static final WordSet EMPTY = new WordSet(new long[LENGTH], 0);
+
+  private final long[] bits;
+  private final int size;
+
+  private WordSet(long[] bits, int size) {
+    this.bits = bits;
+    this.size = size;
+  }
+
+  public static WordSet empty() {
+    return EMPTY;
+  }
+
+  public static Builder builder() {
+    return new Builder(new long[LENGTH], 0);
+  }
+
+  // False for PackedWord.INVALID
+  public boolean contains(int packed) {
+    if (packed == PackedWord.INVALID) {
+      return false;
+    }
+    int rank = PackedWord.rank(packed);
+    return (bits[rank >>> 6] & (1L << rank)) != 0;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  // Copy of this set plus one word; the same instance if it is already present
+  public WordSet with(int packed) {
+    if (packed == PackedWord.INVALID || contains(packed)) {
+      return this;
+    }
+    Builder builder = toBuilder();
+    builder.add(packed);
+    return builder.build();
+  }
+
+  public Builder toBuilder() {
+    return new Builder(Arrays.copyOf(bits, LENGTH), size);
+  }
+
+  public static final class Builder {
+
+    private long[] bits;
+    private int size;
+
+    private Builder(long[] bits, int size) {
+      this.bits = bits;
+      this.size = size;
+    }
+
+    // Returns false for a word already added or PackedWord.INVALID
+    public boolean add(int packed) {
+      if (packed == PackedWord.INVALID) {
+        return false;
+      }
+      int rank = PackedWord.rank(packed);
+      long bit = 1L << rank;
+      if ((bits[rank >>> 6] & bit) != 0) {
+        return false;
+      }
+      bits[rank >>> 6] |= bit;
+      size++;
+      return true;
+    }
+
+    public int size() {
+      return size;
+    }
+
+    // The builder must not be used afterwards
+    public WordSet build() {
+      WordSet set = new WordSet(bits, size);
+      bits = null;
+      return set;
+    }
+  }
+}
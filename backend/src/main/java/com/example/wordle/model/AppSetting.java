@@ -0,0 +1,31 @@
+package com.example.wordle.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Runtime settings changed by admins; they override the application.properties defaults
+@Entity
+@Table(name = "app_settings")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppSetting {
+  @Id
+  @Column(length = 64)
+  private String name;
+
+  @Column(name = "setting_value", nullable = false)
+  private String value;
+
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+}
@@ -0,0 +1,39 @@
+package com.example.wordle.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// One rollup row per day for the admin daily report
+@Entity
+@Table(name = "daily_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DailyStats {
+  @Id
+  private LocalDate statDate;
+
+  // Distinct players who started a game that day
+  @Column(nullable = false)
+  private Long totalUsers = 0L;
+
+  // Games finished that day
+  @Column(nullable = false)
+  private Long totalGames = 0L;
+
+  @Column(nullable = false)
+  private Long gamesWon = 0L;
+
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+}
@@ -39,6 +39,9 @@ public class Guess {
 
   private LocalDateTime guessedAt = LocalDateTime.now();
 
+  // Answer words still consistent with the feedback after this guess; null on older rows
+  private Integer candidatesRemaining;
+
   @PrePersist
   protected void onCreate() {
     guessedAt = LocalDateTime.now();
@@ -0,0 +1,48 @@
+package com.example.wordle.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Games a player has started on a day; lets the daily quota survive restarts
+@Entity
+@Table(name = "player_daily_games")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerDailyGames {
+  @EmbeddedId
+  private Key id;
+
+  @Column(nullable = false)
+  private Integer gamesStarted = 0;
+
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+
+  @Embeddable
+  @Getter
+  @Setter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  @EqualsAndHashCode
+  public static class Key implements Serializable {
+    @Column(name = "player_id", nullable = false)
+    private Long playerId;
+
+    @Column(name = "play_date", nullable = false)
+    private LocalDate playDate;
+  }
+}
@@ -0,0 +1,64 @@
+package com.example.wordle.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// One player's finished games, written by PlayerStatsService. Streaks count consecutive
+// wins in game order; a loss ends one and games left unfinished do not count.
+@Entity
+@Table(name = "player_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlayerStats {
+  @Id
+  private Long userId;
+
+  @Column(nullable = false)
+  private Long gamesPlayed = 0L;
+
+  @Column(nullable = false)
+  private Long gamesWon = 0L;
+
+  @Column(nullable = false)
+  private Integer currentStreak = 0;
+
+  @Column(nullable = false)
+  private Integer maxStreak = 0;
+
+  // Wins by guesses used; wonIn6 also counts any longer win
+  @Column(nullable = false)
+  private Long wonIn1 = 0L;
+
+  @Column(nullable = false)
+  private Long wonIn2 = 0L;
+
+  @Column(nullable = false)
+  private Long wonIn3 = 0L;
+
+  @Column(nullable = false)
+  private Long wonIn4 = 0L;
+
+  @Column(nullable = false)
+  private Long wonIn5 = 0L;
+
+  @Column(nullable = false)
+  private Long wonIn6 = 0L;
+
+  // Newest game counted, so a game is never counted twice
+  private Long lastGameId;
+
+  private LocalDateTime lastFinishedAt;
+
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+}
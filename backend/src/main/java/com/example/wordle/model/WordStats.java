@@ -0,0 +1,69 @@
+package com.example.wordle.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Difficulty of one answer word over all games played on it, written by WordStatsService.
+// Played = won + lost + abandoned; games still in progress are not counted.
+@Entity
+@Table(name = "word_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class WordStats {
+  @Id
+  private Integer wordId;
+
+  @Column(nullable = false)
+  private Long gamesPlayed = 0L;
+
+  @Column(nullable = false)
+  private Long gamesWon = 0L;
+
+  @Column(nullable = false)
+  private Long gamesLost = 0L;
+
+  // Left unfinished on a past day
+  @Column(nullable = false)
+  private Long gamesAbandoned = 0L;
+
+  // Wins by guesses used; wonIn6 also counts any longer win
+  @Column(nullable = false)
+  private Long wonIn1 = 0L;
+
+  @Column(nullable = false)
+  private Long wonIn2 = 0L;
+
+  @Column(nullable = false)
+  private Long wonIn3 = 0L;
+
+  @Column(nullable = false)
+  private Long wonIn4 = 0L;
+
+  @Column(nullable = false)
+  private Long wonIn5 = 0L;
+
+  @Column(nullable = false)
+  private Long wonIn6 = 0L;
+
+  @Column(nullable = false)
+  private Double winRate = 0.0;
+
+  @Column(nullable = false)
+  private Double abandonRate = 0.0;
+
+  // Mean guesses used in won games; null when never won
+  private Double meanGuesses;
+
+  @Column(nullable = false)
+  private LocalDateTime computedAt;
+}
@@ -0,0 +1,9 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.model.AppSetting;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AppSettingRepository extends JpaRepository<AppSetting, String> {
+}
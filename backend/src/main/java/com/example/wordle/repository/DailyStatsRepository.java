@@ -0,0 +1,11 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.model.DailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface DailyStatsRepository extends JpaRepository<DailyStats, LocalDate> {
+}
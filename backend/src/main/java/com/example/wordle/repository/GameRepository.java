@@ -1,12 +1,18 @@
 package com.example.wordle.repository;
 
+import com.example.wordle.dto.GameExportRow;
+import com.example.wordle.dto.GameResult;
+import com.example.wordle.dto.GameView;
+import com.example.wordle.dto.PlayerDayReport;
+import com.example.wordle.dto.PlayerTotals;
 import com.example.wordle.model.Game;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -19,8 +25,12 @@ public interface GameRepository extends JpaRepository<Game, Long> {
   // Fetch all games finished between two timestamps (for daily report)
   List<Game> findAllByFinishedAtBetween(LocalDateTime start, LocalDateTime end);
 
-  // Count active games for a player today (to enforce max 3 games/day)
-  Long countByPlayerIdAndStartedAtBetween(Long playerId, LocalDateTime start, LocalDateTime end);
+  // Games a player started in [start, end); fallback for the daily quota
+  @Query("SELECT COUNT(g) FROM Game g " +
+      "WHERE g.player.id = :playerId AND g.startedAt >= :start AND g.startedAt < :end")
+  long countStartedBetween(@Param("playerId") Long playerId,
+      @Param("start") LocalDateTime start,
+      @Param("end") LocalDateTime end);
 
   // Fetch ongoing games for a player
   List<Game> findAllByPlayerIdAndFinishedFalse(Long playerId);
@@ -28,14 +38,103 @@ public interface GameRepository extends JpaRepository<Game, Long> {
   // Fetch games by user ID and creation date range
   List<Game> findByPlayer_IdAndStartedAtBetweenAndFinishedTrue(Long userId, LocalDateTime start, LocalDateTime end);
 
-  // Fetch today's unfinished games
-  List<Game> findByPlayer_IdAndStartedAtBetweenAndFinishedFalse(Long userId, LocalDateTime start, LocalDateTime end);
+  // Player's unfinished games started in [start, end), with player and word in the same select
+  @EntityGraph(attributePaths = {"player", "word", "word.createdBy"})
+  @Query("SELECT g FROM Game g " +
+      "WHERE g.player.id = :playerId AND g.finished = false " +
+      "AND g.startedAt >= :start AND g.startedAt < :end " +
+      "ORDER BY g.id")
+  List<Game> findUnfinishedStartedBetween(@Param("playerId") Long playerId,
+      @Param("start") LocalDateTime start,
+      @Param("end") LocalDateTime end);
 
-  // Get distinct users played today
-  @Query("SELECT COUNT(DISTINCT g.player) " +
+  // Player's finished games started in [start, end), without loading the entity graph
+  @Query("SELECT new com.example.wordle.dto.GameView(" +
+      "g.id, g.guessesAllowed, g.guessesMade, g.won, g.finished, g.startedAt, g.finishedAt, w.word) " +
+      "FROM Game g JOIN g.word w " +
+      "WHERE g.player.id = :playerId AND g.finished = true " +
+      "AND g.startedAt >= :start AND g.startedAt < :end " +
+      "ORDER BY g.id")
+  List<GameView> findFinishedViewsStartedBetween(@Param("playerId") Long playerId,
+      @Param("start") LocalDateTime start,
+      @Param("end") LocalDateTime end);
+
+  // Ids of words a player has already solved
+  @Query("SELECT DISTINCT g.word.id FROM Game g WHERE g.player.id = :playerId AND g.won = true")
+  List<Integer> findWonWordIdsByPlayerId(@Param("playerId") Long playerId);
+
+  // Per-day aggregates of a player's finished games in [start, end)
+  @Query("SELECT new com.example.wordle.dto.PlayerDayReport(" +
+      "CAST(g.finishedAt AS LocalDate), COUNT(g), " +
+      "SUM(CASE WHEN g.won = true THEN 1 ELSE 0 END), AVG(g.guessesMade)) " +
+      "FROM Game g " +
+      "WHERE g.player.id = :playerId AND g.finishedAt >= :start AND g.finishedAt < :end " +
+      "GROUP BY CAST(g.finishedAt AS LocalDate) " +
+      "ORDER BY CAST(g.finishedAt AS LocalDate)")
+  List<PlayerDayReport> findDailyReportByPlayer(@Param("playerId") Long playerId,
+      @Param("start") LocalDateTime start,
+      @Param("end") LocalDateTime end);
+
+  // Keyset page of games started in [start, end), for exports
+  @Query("SELECT new com.example.wordle.dto.GameExportRow(" +
+      "g.id, g.player.id, g.word.id, g.word.word, g.won, g.guessesAllowed, g.guessesMade, " +
+      "g.finished, g.startedAt, g.finishedAt) " +
+      "FROM Game g " +
+      "WHERE g.id > :afterId AND g.startedAt >= :start AND g.startedAt < :end " +
+      "ORDER BY g.id")
+  List<GameExportRow> findExportPage(@Param("afterId") Long afterId,
+      @Param("start") LocalDateTime start,
+      @Param("end") LocalDateTime end,
+      Limit limit);
+
+  // A player's games finished before a cutoff, in game order, to backfill their stats;
+  // finished games from before finishedAt was recorded count too
+  @Query("SELECT new com.example.wordle.dto.GameResult(g.id, g.won, g.guessesMade, g.finishedAt) " +
+      "FROM Game g WHERE g.player.id = :userId AND g.finished = true " +
+      "AND (g.finishedAt IS NULL OR g.finishedAt < :before) ORDER BY g.id")
+  List<GameResult> findFinishedResultsByPlayerIdBefore(@Param("userId") Long userId,
+      @Param("before") LocalDateTime before);
+
+  // Finished-game totals per player up to a cutoff, to rebuild the all-time leaderboards;
+  // finished games from before finishedAt was recorded count too
+  @Query("SELECT new com.example.wordle.dto.PlayerTotals(" +
+      "g.player.id, g.player.username, COUNT(g), " +
+      "SUM(CASE WHEN g.won = true THEN 1 ELSE 0 END), " +
+      "SUM(CASE WHEN g.won = true THEN g.guessesMade ELSE 0 END)) " +
+      "FROM Game g " +
+      "WHERE g.finished = true AND (g.finishedAt IS NULL OR g.finishedAt < :before) " +
+      "AND g.player.role = 'PLAYER' " +
+      "GROUP BY g.player.id, g.player.username")
+  List<PlayerTotals> findPlayerTotalsFinishedBefore(@Param("before") LocalDateTime before);
+
+  // The same for games finished in [start, end), for the daily leaderboards
+  @Query("SELECT new com.example.wordle.dto.PlayerTotals(" +
+      "g.player.id, g.player.username, COUNT(g), " +
+      "SUM(CASE WHEN g.won = true THEN 1 ELSE 0 END), " +
+      "SUM(CASE WHEN g.won = true THEN g.guessesMade ELSE 0 END)) " +
+      "FROM Game g " +
+      "WHERE g.finishedAt >= :start AND g.finishedAt < :end AND g.player.role = 'PLAYER' " +
+      "GROUP BY g.player.id, g.player.username")
+  List<PlayerTotals> findPlayerTotalsFinishedBetween(@Param("start") LocalDateTime start,
+      @Param("end") LocalDateTime end);
+
+  // Rollup counts for games finished in [start, end)
+  long countByFinishedAtGreaterThanEqualAndFinishedAtLessThan(LocalDateTime start, LocalDateTime end);
+
+  long countByFinishedAtGreaterThanEqualAndFinishedAtLessThanAndWonTrue(LocalDateTime start, LocalDateTime end);
+
+  // Players who started a game in [start, end)
+  @Query("SELECT DISTINCT g.player.id FROM Game g " +
+      "WHERE g.startedAt >= :start AND g.startedAt < :end " +
+      "AND g.player.role = 'PLAYER'")
+  List<Long> findPlayerIdsStartedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+  // Distinct players who started a game in [start, end); a range on the raw column so
+  // idx_games_started_at can seek, where DATE(started_at) forced a scan
+  @Query("SELECT COUNT(DISTINCT g.player.id) " +
       "FROM Game g " +
-      "WHERE DATE(g.startedAt) = :date " +
+      "WHERE g.startedAt >= :start AND g.startedAt < :end " +
       "AND g.player.role = 'PLAYER'")
-  Long countDistinctPlayersByDate(@Param("date") LocalDate date);
+  Long countDistinctPlayersStartedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
 }
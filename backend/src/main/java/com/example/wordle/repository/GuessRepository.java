@@ -2,11 +2,30 @@ package com.example.wordle.repository;
 
 import org.springframework.stereotype.Repository;
 
+import com.example.wordle.dto.GuessExportRow;
 import com.example.wordle.model.Guess;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface GuessRepository extends JpaRepository<Guess, Long> {
-  List<Guess> findAllByGameId(Long gameId);
+  // Guesses of one game in order; filters on the foreign key column instead of joining games
+  @Query("SELECT x FROM Guess x WHERE x.game.id = :gameId ORDER BY x.id")
+  List<Guess> findAllByGameId(@Param("gameId") Long gameId);
+
+  // Keyset page of guesses made in [start, end), for exports
+  @Query("SELECT new com.example.wordle.dto.GuessExportRow(" +
+      "x.id, x.game.id, x.guessedWord, x.feedback, x.guessedAt, x.candidatesRemaining) " +
+      "FROM Guess x " +
+      "WHERE x.id > :afterId AND x.guessedAt >= :start AND x.guessedAt < :end " +
+      "ORDER BY x.id")
+  List<GuessExportRow> findExportPage(@Param("afterId") Long afterId,
+      @Param("start") LocalDateTime start,
+      @Param("end") LocalDateTime end,
+      Limit limit);
 }
@@ -0,0 +1,31 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.model.PlayerDailyGames;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface PlayerDailyGamesRepository extends JpaRepository<PlayerDailyGames, PlayerDailyGames.Key> {
+
+  @Query("SELECT p.gamesStarted FROM PlayerDailyGames p " +
+      "WHERE p.id.playerId = :playerId AND p.id.playDate = :date")
+  Optional<Integer> findGamesStarted(@Param("playerId") Long playerId, @Param("date") LocalDate date);
+
+  // Single-statement upsert; never lowers a stored count
+  @Modifying
+  @Query(nativeQuery = true, value = "INSERT INTO player_daily_games (player_id, play_date, games_started, updated_at) " +
+      "VALUES (:playerId, :date, :gamesStarted, :now) " +
+      "ON DUPLICATE KEY UPDATE games_started = GREATEST(games_started, VALUES(games_started)), " +
+      "updated_at = VALUES(updated_at)")
+  void upsertGamesStarted(@Param("playerId") Long playerId,
+      @Param("date") LocalDate date,
+      @Param("gamesStarted") int gamesStarted,
+      @Param("now") LocalDateTime now);
+}
@@ -1,7 +1,11 @@
 package com.example.wordle.repository;
 
+import com.example.wordle.dto.PlayerSummary;
 import com.example.wordle.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +17,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
   List<User> findAllByRole(User.Role role);
 
+  // Keyset page of users with a role; a null cursor starts from the first row
+  @Query("SELECT new com.example.wordle.dto.PlayerSummary(u.id, u.username, u.createdAt) " +
+      "FROM User u WHERE u.role = :role AND (:after IS NULL OR u.id > :after) ORDER BY u.id")
+  List<PlayerSummary> findPageByRole(@Param("role") User.Role role, @Param("after") Long after, Limit limit);
+
 }
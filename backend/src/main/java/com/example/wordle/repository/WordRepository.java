@@ -5,9 +5,12 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.example.wordle.dto.WordSummary;
 import com.example.wordle.model.Word;
 
 @Repository
@@ -22,4 +25,26 @@ public interface WordRepository extends JpaRepository<Word, Integer> {
       "WHERE w.isActive = true AND g.id IS NULL")
   List<Word> findActiveWordsNotGuessedByUser(Long userId);
 
+  // Keyset pages for the admin listing; a null cursor starts from the first row and a
+  // null active flag matches both states
+
+  String SUMMARY = "SELECT new com.example.wordle.dto.WordSummary(" +
+      "w.id, w.word, w.isActive, u.username, w.createdAt, w.updatedAt) " +
+      "FROM Word w LEFT JOIN w.createdBy u ";
+
+  @Query(SUMMARY + "WHERE (:after IS NULL OR w.id > :after) " +
+      "AND (:active IS NULL OR w.isActive = :active) ORDER BY w.id ASC")
+  List<WordSummary> findPageById(@Param("after") Integer after, @Param("active") Boolean active, Limit limit);
+
+  @Query(SUMMARY + "WHERE (:before IS NULL OR w.id < :before) " +
+      "AND (:active IS NULL OR w.isActive = :active) ORDER BY w.id DESC")
+  List<WordSummary> findPageByIdDesc(@Param("before") Integer before, @Param("active") Boolean active, Limit limit);
+
+  @Query(SUMMARY + "WHERE (:after IS NULL OR w.word > :after) " +
+      "AND (:active IS NULL OR w.isActive = :active) ORDER BY w.word ASC")
+  List<WordSummary> findPageByWord(@Param("after") String after, @Param("active") Boolean active, Limit limit);
+
+  @Query(SUMMARY + "WHERE (:before IS NULL OR w.word < :before) " +
+      "AND (:active IS NULL OR w.isActive = :active) ORDER BY w.word DESC")
+  List<WordSummary> findPageByWordDesc(@Param("before") String before, @Param("active") Boolean active, Limit limit);
 }
@@ -0,0 +1,23 @@
+package com.example.wordle.repository;
+
+import com.example.wordle.dto.WordStatsView;
+import com.example.wordle.model.WordStats;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface WordStatsRepository extends JpaRepository<WordStats, Integer> {
+
+  // Words with at least minGames counted games, in the requested order; sort properties are
+  // WordStats fields
+  @Query("SELECT new com.example.wordle.dto.WordStatsView(w.word, w.isActive, s) " +
+      "FROM WordStats s JOIN Word w ON w.id = s.wordId " +
+      "WHERE s.gamesPlayed >= :minGames")
+  List<WordStatsView> findViews(@Param("minGames") long minGames, Sort sort, Limit limit);
+}
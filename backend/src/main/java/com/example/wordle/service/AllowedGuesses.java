@@ -0,0 +1,166 @@
+package com.example.wordle.service;
+
+import com.example.wordle.engine.PackedWord;
+import com.example.wordle.engine.WordSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Words a player may guess: the list at wordle.guesses.file (one word per line, any Spring
+// resource location) plus every active answer word, held as a WordSet so makeGuess checks
+// a guess with one bit lookup before it touches the game or the database.
+// The list is read at startup and on reload(); answer words added later are merged in as
+// WordDictionary reports them. A deactivated answer stays guessable until the next reload
+// or dictionary rebuild. Without a list only the answer words can be guessed.
+@Service
+public class AllowedGuesses implements WordDictionary.Listener {
+
+  private static final Logger log = LoggerFactory.getLogger(AllowedGuesses.class);
+
+  private final WordDictionary wordDictionary;
+  private final ResourceLoader resourceLoader;
+  private final String location;
+  private final ReentrantLock writeLock = new ReentrantLock();
+
+  // The loaded list alone, kept so a dictionary rebuild can drop removed answers
+  private volatile WordSet list = WordSet.empty();
+  private volatile WordSet allowed = WordSet.empty();
+
+  private volatile String source;
+  private volatile long rejectedLines;
+  private volatile long lastLoadMs;
+  private volatile LocalDateTime loadedAt;
+
+  public AllowedGuesses(WordDictionary wordDictionary,
+      ResourceLoader resourceLoader,
+      @Value("${wordle.guesses.file:}") String location) {
+    this.wordDictionary = wordDictionary;
+    this.resourceLoader = resourceLoader;
+    this.location = location;
+    wordDictionary.addListener(this);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadConfigured() throws IOException {
+    if (location.isBlank()) {
+      log.info("No wordle.guesses.file configured; only answer words can be guessed");
+      return;
+    }
+    reload();
+  }
+
+  // Re-reads wordle.guesses.file and swaps it in; guesses in flight see the old or new list
+  public Map<String, Object> reload() throws IOException {
+    if (location.isBlank()) {
+      throw new IllegalStateException("No guess list configured (wordle.guesses.file)");
+    }
+    try (InputStream in = resourceLoader.getResource(location).getInputStream()) {
+      load(in, location);
+    }
+    return getStats();
+  }
+
+  // Replaces the list with the words read from in; the stream is not closed
+  public void load(InputStream in, String name) throws IOException {
+    long started = System.nanoTime();
+    WordSet.Builder builder = WordSet.builder();
+    long rejected = 0;
+    BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    String line;
+    boolean first = true;
+    while ((line = reader.readLine()) != null) {
+      // UTF-8 byte order mark on the first line
+      if (first && line.startsWith("\uFEFF")) {
+        line = line.substring(1);
+      }
+      first = false;
+      String word = line.strip();
+      if (word.isEmpty()) {
+        continue;
+      }
+      int packed = PackedWord.encode(word);
+      if (packed == PackedWord.INVALID) {
+        rejected++;
+      } else {
+        builder.add(packed);
+      }
+    }
+    WordSet loaded = builder.build();
+
+    writeLock.lock();
+    try {
+      list = loaded;
+      allowed = withAnswers(loaded);
+      source = name;
+      rejectedLines = rejected;
+      lastLoadMs = (System.nanoTime() - started) / 1_000_000;
+      loadedAt = LocalDateTime.now();
+    } finally {
+      writeLock.unlock();
+    }
+    log.info("Loaded {} allowed guesses from {} ({} lines rejected) in {} ms",
+        loaded.size(), name, rejected, lastLoadMs);
+  }
+
+  public boolean isAllowed(int packed) {
+    return allowed.contains(packed);
+  }
+
+  @Override
+  public void wordChanged(int wordId) {
+    int packed = wordDictionary.packed(wordId);
+    if (packed == PackedWord.INVALID) {
+      return;
+    }
+    writeLock.lock();
+    try {
+      allowed = allowed.with(packed);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  @Override
+  public void rebuilt() {
+    writeLock.lock();
+    try {
+      allowed = withAnswers(list);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("listWords", list.size());
+    stats.put("allowedWords", allowed.size());
+    stats.put("source", source);
+    stats.put("rejectedLines", rejectedLines);
+    stats.put("lastLoadMs", lastLoadMs);
+    stats.put("loadedAt", loadedAt);
+    return stats;
+  }
+
+  // Caller holds writeLock
+  private WordSet withAnswers(WordSet base) {
+    WordSet.Builder builder = base.toBuilder();
+    for (int id : wordDictionary.activeWordIds()) {
+      builder.add(wordDictionary.packed(id));
+    }
+    return builder.build();
+  }
+}
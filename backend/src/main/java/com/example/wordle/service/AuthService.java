@@ -3,9 +3,10 @@ package com.example.wordle.service;
 import com.example.wordle.model.User;
 import com.example.wordle.repository.UserRepository;
 import com.example.wordle.config.JwtUtils;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -14,16 +15,23 @@ public class AuthService {
 
   private final UserRepository userRepository;
   private final JwtUtils jwtUtils;
-  private final PasswordEncoder passwordEncoder;
+  private final PasswordHasher passwordHasher;
+  private final Timer loginTimer;
 
-  public AuthService(UserRepository userRepository, JwtUtils jwtUtils, PasswordEncoder passwordEncoder) {
+  public AuthService(UserRepository userRepository, JwtUtils jwtUtils, PasswordHasher passwordHasher,
+      MeterRegistry meterRegistry) {
     this.userRepository = userRepository;
     this.jwtUtils = jwtUtils;
-    this.passwordEncoder = passwordEncoder;
+    this.passwordHasher = passwordHasher;
+    this.loginTimer = Timer.builder("wordle.auth.login")
+        .description("AuthService.login latency, including time queued for BCrypt")
+        .publishPercentileHistogram()
+        .register(meterRegistry);
   }
 
   // Register a new user
-  @Transactional
+  // Not transactional: the password is hashed, which may wait for a BCrypt thread, before
+  // a connection is taken, and the insert commits on its own
   public User register(String username, String password, User.Role role) {
     if (username == null || username.length() < 5) {
       throw new IllegalArgumentException("Username must be at least 5 characters");
@@ -40,21 +48,42 @@ public class AuthService {
 
     User user = new User();
     user.setUsername(username);
-    user.setPasswordHash(passwordEncoder.encode(password));
+    user.setPasswordHash(passwordHasher.encode(password));
     user.setRole(role);
 
-    return userRepository.save(user);
+    try {
+      return userRepository.save(user);
+    } catch (DataIntegrityViolationException e) {
+      // Taken by a concurrent registration since the check above
+      throw new IllegalStateException("Username already exists");
+    }
   }
 
   // Authenticate user and generate JWT token
   public String login(String username, String password) {
+    return loginTimer.record(() -> authenticate(username, password));
+  }
+
+  private String authenticate(String username, String password) {
     User user = userRepository.findByUsername(username)
         .orElseThrow(() -> new IllegalArgumentException("Invalid username or password"));
 
-    if (!passwordEncoder.matches(password, user.getPasswordHash())) {
+    PasswordHasher.Verification verification = passwordHasher.verify(password, user.getPasswordHash());
+    if (!verification.matches()) {
       throw new IllegalArgumentException("Invalid username or password");
     }
 
+    // Stored hash predates the configured BCrypt strength
+    if (verification.rehash() != null) {
+      user.setPasswordHash(verification.rehash());
+      userRepository.save(user);
+    }
+
+    return issueToken(user);
+  }
+
+  // Token for a user whose password has already been checked, e.g. right after register
+  public String issueToken(User user) {
     return jwtUtils.generateToken(user.getUsername(), user.getRole().name());
   }
 
@@ -0,0 +1,155 @@
+package com.example.wordle.service;
+
+import com.example.wordle.engine.CandidateSet;
+import com.example.wordle.engine.Feedback;
+import com.example.wordle.engine.LetterIndex;
+import com.example.wordle.engine.PackedWord;
+import com.example.wordle.model.Game;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Answer words still consistent with each game's feedback, updated inside makeGuess.
+// A game's CandidateSet lives with its session and each guess narrows it through the
+// dictionary's LetterIndex, so the cost per guess is a few passes over a bitset of word
+// ids. A session loaded mid-game replays the guesses already made, stored or still queued.
+// Wins made while at least wordle.candidates.suspicious-min candidates were left are
+// logged and counted, as a guess that lucky is more likely a leaked answer.
+@Service
+public class CandidateTracker {
+
+  private static final Logger log = LoggerFactory.getLogger(CandidateTracker.class);
+
+  private static final int RECENT_SUSPICIOUS = 20;
+
+  private final WordDictionary wordDictionary;
+  private final GameSessionStore gameSessions;
+  private final GuessWriteBehind guessWriteBehind;
+  private final int suspiciousMin;
+  // Remaining candidates after guess n, at index n - 1; the last one also takes later guesses
+  private final DistributionSummary[] remainingAfter = new DistributionSummary[6];
+  private final Counter suspicious;
+  private final AtomicLong replays = new AtomicLong();
+  private final ReentrantLock recentLock = new ReentrantLock();
+  // Guarded by recentLock
+  private final ArrayDeque<Map<String, Object>> recentSuspicious = new ArrayDeque<>();
+
+  public CandidateTracker(WordDictionary wordDictionary,
+      GameSessionStore gameSessions,
+      GuessWriteBehind guessWriteBehind,
+      MeterRegistry registry,
+      @Value("${wordle.candidates.suspicious-min:50}") int suspiciousMin) {
+    this.wordDictionary = wordDictionary;
+    this.gameSessions = gameSessions;
+    this.guessWriteBehind = guessWriteBehind;
+    this.suspiciousMin = suspiciousMin;
+    for (int i = 0; i < remainingAfter.length; i++) {
+      remainingAfter[i] = DistributionSummary.builder("wordle.guesses.candidates")
+          .description("Answer words still possible after a guess")
+          .tag("guess", String.valueOf(i + 1))
+          .publishPercentileHistogram()
+          .register(registry);
+    }
+    this.suspicious = Counter.builder("wordle.games.suspicious").register(registry);
+  }
+
+  // Narrows the game's candidates by a guess and returns how many are left.
+  // Runs under the game's lock, before the guess is handed to the write-behind queue.
+  public int track(Game game, int target, int guess, int code) {
+    LetterIndex index = wordDictionary.letterIndex();
+    CandidateSet candidates = candidates(game, target, index);
+    int before = candidates.remaining();
+    int remaining = candidates.narrow(index, guess, code);
+    gameSessions.setCandidates(game.getId(), candidates);
+
+    remainingAfter[Math.min(candidates.guessCount(), remainingAfter.length) - 1].record(remaining);
+    if (code == Feedback.ALL_GREEN && before >= suspiciousMin) {
+      flag(game, before);
+    }
+    return remaining;
+  }
+
+  // Packed guesses made in the game so far, including ones still queued for writing.
+  // Runs under the game's lock; only a game without a session reads the guesses table.
+  public int[] guesses(Game game, int target) {
+    CandidateSet candidates = candidates(game, target, wordDictionary.letterIndex());
+    gameSessions.setCandidates(game.getId(), candidates);
+    return candidates.guesses();
+  }
+
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("answerWords", wordDictionary.letterIndex().size());
+    stats.put("suspiciousMin", suspiciousMin);
+    stats.put("suspiciousWins", (long) suspicious.count());
+    stats.put("replays", replays.get());
+    recentLock.lock();
+    try {
+      stats.put("recentSuspicious", List.copyOf(recentSuspicious));
+    } finally {
+      recentLock.unlock();
+    }
+    return stats;
+  }
+
+  private CandidateSet candidates(Game game, int target, LetterIndex index) {
+    CandidateSet candidates = gameSessions.candidates(game.getId());
+    if (candidates == null) {
+      candidates = game.getGuessesMade() == 0 ? CandidateSet.start(index) : replay(game, target, index);
+    }
+    return candidates;
+  }
+
+  // Session was evicted or reloaded mid-game: rebuild from the guesses made so far, without
+  // waiting for a flush of every game's queued rows
+  private CandidateSet replay(Game game, int target, LetterIndex index) {
+    replays.incrementAndGet();
+    List<String> words = guessWriteBehind.guessedWords(game.getId());
+    int[] guesses = new int[words.size()];
+    int[] codes = new int[words.size()];
+    int count = 0;
+    for (String word : words) {
+      // Rows from before guesses were validated may not be words at all
+      int packed = PackedWord.encode(word);
+      if (packed != PackedWord.INVALID) {
+        guesses[count] = packed;
+        codes[count++] = Feedback.score(target, packed);
+      }
+    }
+    return CandidateSet.replay(index, Arrays.copyOf(guesses, count), Arrays.copyOf(codes, count));
+  }
+
+  private void flag(Game game, int candidates) {
+    suspicious.increment();
+    log.warn("Suspicious win: game {} by player {} on guess {} with {} candidates left",
+        game.getId(), game.getPlayer().getId(), game.getGuessesMade() + 1, candidates);
+    Map<String, Object> entry = new LinkedHashMap<>();
+    entry.put("gameId", game.getId());
+    entry.put("playerId", game.getPlayer().getId());
+    entry.put("guess", game.getGuessesMade() + 1);
+    entry.put("candidates", candidates);
+    entry.put("at", LocalDateTime.now());
+    recentLock.lock();
+    try {
+      if (recentSuspicious.size() == RECENT_SUSPICIOUS) {
+        recentSuspicious.removeFirst();
+      }
+      recentSuspicious.addLast(entry);
+    } finally {
+      recentLock.unlock();
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.AppSetting;
+import com.example.wordle.repository.AppSettingRepository;
+import com.example.wordle.repository.GameRepository;
+import com.example.wordle.repository.PlayerDailyGamesRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Per-player limit on games started per day.
+// The current day's counts are atomic counters in memory, so a check is one map lookup.
+// Each reservation is also written to player_daily_games in the transaction that creates
+// the game, and a player's counter is loaded from there the first time they start a game
+// that day. The map is replaced when the date changes.
+@Service
+public class DailyQuotaService {
+
+  static final String LIMIT_SETTING = "daily-game-limit";
+
+  private final PlayerDailyGamesRepository playerDailyGamesRepository;
+  private final GameRepository gameRepository;
+  private final AppSettingRepository appSettingRepository;
+  private final GameEvents gameEvents;
+  private final ReentrantLock rolloverLock = new ReentrantLock();
+
+  private volatile int limit;
+  private volatile Day today = new Day(LocalDate.now());
+
+  public DailyQuotaService(PlayerDailyGamesRepository playerDailyGamesRepository,
+      GameRepository gameRepository,
+      AppSettingRepository appSettingRepository,
+      GameEvents gameEvents,
+      @Value("${wordle.games.daily-limit:3}") int defaultLimit) {
+    this.playerDailyGamesRepository = playerDailyGamesRepository;
+    this.gameRepository = gameRepository;
+    this.appSettingRepository = appSettingRepository;
+    this.gameEvents = gameEvents;
+    this.limit = defaultLimit;
+  }
+
+  // An admin-set limit overrides the property
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadLimit() {
+    appSettingRepository.findById(LIMIT_SETTING)
+        .map(setting -> Integer.parseInt(setting.getValue()))
+        .ifPresent(stored -> limit = stored);
+  }
+
+  // Reserves one game for the player on date; false once the limit is reached.
+  // Call inside the transaction that creates the game: the count is persisted with it and
+  // handed back if that transaction rolls back.
+  public boolean tryAcquire(Long playerId, LocalDate date) {
+    AtomicInteger counter = counter(playerId, date);
+    int used;
+    do {
+      used = counter.get();
+      if (used >= limit) {
+        return false;
+      }
+    } while (!counter.compareAndSet(used, used + 1));
+
+    TransactionHooks.afterRollback(counter::decrementAndGet);
+    playerDailyGamesRepository.upsertGamesStarted(playerId, date, used + 1, LocalDateTime.now());
+    return true;
+  }
+
+  public int used(Long playerId, LocalDate date) {
+    return counter(playerId, date).get();
+  }
+
+  public int getLimit() {
+    return limit;
+  }
+
+  // Today's games started against the limit, as shown to the player
+  public Map<String, Object> quota(Long playerId) {
+    LocalDate today = LocalDate.now();
+    return quota(today, limit, used(playerId, today));
+  }
+
+  // Applies to reservations from now on; players already over a lowered limit keep their games
+  public void setLimit(int newLimit) {
+    if (newLimit < 1) {
+      throw new IllegalArgumentException("Daily game limit must be at least 1");
+    }
+    appSettingRepository.save(new AppSetting(LIMIT_SETTING, String.valueOf(newLimit), LocalDateTime.now()));
+    limit = newLimit;
+    // Players with an open event stream see the new allowance straight away. Only counts
+    // already in memory are used, so this never queries per subscriber; a player whose count
+    // has not been loaded today sees the new limit on their next quota fetch.
+    Day day = today;
+    if (!day.date.equals(LocalDate.now())) {
+      return;
+    }
+    for (Long playerId : gameEvents.subscribedPlayers()) {
+      AtomicInteger counter = day.players.get(playerId);
+      if (counter != null) {
+        gameEvents.publish(playerId, "quota", quota(day.date, newLimit, counter.get()));
+      }
+    }
+  }
+
+  private static Map<String, Object> quota(LocalDate date, int limit, int used) {
+    return Map.of("date", date, "limit", limit, "used", used, "remaining", Math.max(0, limit - used));
+  }
+
+  private AtomicInteger counter(Long playerId, LocalDate date) {
+    Day day = dayFor(date);
+    AtomicInteger counter = day.players.get(playerId);
+    if (counter != null) {
+      return counter;
+    }
+
+    // Load outside the map so no bin lock is held across the query
+    AtomicInteger loaded = new AtomicInteger(storedCount(playerId, date));
+    AtomicInteger existing = day.players.putIfAbsent(playerId, loaded);
+    return existing != null ? existing : loaded;
+  }
+
+  // Days before the counter table existed fall back to counting the player's games
+  private int storedCount(Long playerId, LocalDate date) {
+    return playerDailyGamesRepository.findGamesStarted(playerId, date)
+        .orElseGet(() -> (int) gameRepository.countStartedBetween(playerId,
+            date.atStartOfDay(), date.plusDays(1).atStartOfDay()));
+  }
+
+  // The in-memory day for date, rolling over if date is newer. A request still on the
+  // previous day gets a detached Day that reads through to the stored counts.
+  private Day dayFor(LocalDate date) {
+    Day day = today;
+    if (day.date.equals(date)) {
+      return day;
+    }
+    if (date.isBefore(day.date)) {
+      return new Day(date);
+    }
+
+    rolloverLock.lock();
+    try {
+      if (date.isAfter(today.date)) {
+        today = new Day(date);
+      }
+      return today.date.equals(date) ? today : new Day(date);
+    } finally {
+      rolloverLock.unlock();
+    }
+  }
+
+  private static final class Day {
+    private final LocalDate date;
+    private final ConcurrentHashMap<Long, AtomicInteger> players = new ConcurrentHashMap<>();
+
+    private Day(LocalDate date) {
+      this.date = date;
+    }
+  }
+}
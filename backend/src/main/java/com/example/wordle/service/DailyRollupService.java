@@ -0,0 +1,179 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.DailyStats;
+import com.example.wordle.model.User;
+import com.example.wordle.repository.DailyStatsRepository;
+import com.example.wordle.repository.GameRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Daily report rollups.
+// The current day is aggregated in memory from game events and written to daily_stats
+// periodically and at rollover; past days are a single row lookup, backfilled from the
+// games table the first time a day without a row is requested.
+@Service
+public class DailyRollupService {
+
+  private final DailyStatsRepository dailyStatsRepository;
+  private final GameRepository gameRepository;
+  private final ReentrantLock rolloverLock = new ReentrantLock();
+
+  private volatile Day today = new Day(LocalDate.now());
+
+  public DailyRollupService(DailyStatsRepository dailyStatsRepository, GameRepository gameRepository) {
+    this.dailyStatsRepository = dailyStatsRepository;
+    this.gameRepository = gameRepository;
+  }
+
+  // Seed the current day from the games table so restarts do not lose counts
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadToday() {
+    LocalDate date = LocalDate.now();
+    LocalDateTime start = date.atStartOfDay();
+    LocalDateTime end = date.plusDays(1).atStartOfDay();
+
+    Day day = new Day(date);
+    day.games.set(gameRepository.countByFinishedAtGreaterThanEqualAndFinishedAtLessThan(start, end));
+    day.wins.set(gameRepository.countByFinishedAtGreaterThanEqualAndFinishedAtLessThanAndWonTrue(start, end));
+    day.players.addAll(gameRepository.findPlayerIdsStartedBetween(start, end));
+    today = day;
+  }
+
+  public void gameStarted(User player, LocalDateTime startedAt) {
+    if (player.getRole() != User.Role.PLAYER) {
+      return;
+    }
+    Day day = dayFor(startedAt.toLocalDate());
+    if (day != null) {
+      day.players.add(player.getId());
+    } else {
+      // Late event for a day already rolled over; the player may have been counted already
+      recountStoredUsers(startedAt.toLocalDate());
+    }
+  }
+
+  public void gameFinished(boolean won, LocalDateTime finishedAt) {
+    Day day = dayFor(finishedAt.toLocalDate());
+    if (day != null) {
+      day.games.incrementAndGet();
+      if (won) {
+        day.wins.incrementAndGet();
+      }
+    } else {
+      adjustStoredDay(finishedAt.toLocalDate(), 1, won ? 1 : 0);
+    }
+  }
+
+  public DailyStats getDay(LocalDate date) {
+    Day day = today;
+    if (day.date.equals(date)) {
+      return day.toStats();
+    }
+    if (date.isAfter(day.date)) {
+      return new DailyStats(date, 0L, 0L, 0L, LocalDateTime.now());
+    }
+    return dailyStatsRepository.findById(date).orElseGet(() -> dailyStatsRepository.save(backfill(date)));
+  }
+
+  @Scheduled(fixedDelayString = "${wordle.rollup.flush-interval-ms:60000}")
+  public void flush() {
+    dayFor(LocalDate.now());
+    dailyStatsRepository.save(today.toStats());
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    dailyStatsRepository.save(today.toStats());
+  }
+
+  // The in-memory day for date, rolling over if date is newer; null if date has already passed
+  private Day dayFor(LocalDate date) {
+    Day day = today;
+    if (day.date.equals(date)) {
+      return day;
+    }
+    if (date.isBefore(day.date)) {
+      return null;
+    }
+
+    rolloverLock.lock();
+    try {
+      day = today;
+      if (date.isAfter(day.date)) {
+        dailyStatsRepository.save(day.toStats());
+        today = new Day(date);
+      }
+      return today.date.equals(date) ? today : null;
+    } finally {
+      rolloverLock.unlock();
+    }
+  }
+
+  private void adjustStoredDay(LocalDate date, long games, long wins) {
+    rolloverLock.lock();
+    try {
+      DailyStats stats = dailyStatsRepository.findById(date).orElseGet(() -> backfill(date));
+      stats.setTotalGames(stats.getTotalGames() + games);
+      stats.setGamesWon(stats.getGamesWon() + wins);
+      stats.setUpdatedAt(LocalDateTime.now());
+      dailyStatsRepository.save(stats);
+    } finally {
+      rolloverLock.unlock();
+    }
+  }
+
+  // Distinct players are not additive, so a stored day's count is read again from the
+  // games table, which already holds the started game
+  private void recountStoredUsers(LocalDate date) {
+    rolloverLock.lock();
+    try {
+      DailyStats stats = dailyStatsRepository.findById(date).orElse(null);
+      if (stats == null) {
+        dailyStatsRepository.save(backfill(date));
+        return;
+      }
+      stats.setTotalUsers(gameRepository.countDistinctPlayersStartedBetween(
+          date.atStartOfDay(), date.plusDays(1).atStartOfDay()));
+      stats.setUpdatedAt(LocalDateTime.now());
+      dailyStatsRepository.save(stats);
+    } finally {
+      rolloverLock.unlock();
+    }
+  }
+
+  // Computes a day's row from the games table; used for days recorded before rollups existed
+  private DailyStats backfill(LocalDate date) {
+    LocalDateTime start = date.atStartOfDay();
+    LocalDateTime end = date.plusDays(1).atStartOfDay();
+    return new DailyStats(date,
+        gameRepository.countDistinctPlayersStartedBetween(start, end),
+        gameRepository.countByFinishedAtGreaterThanEqualAndFinishedAtLessThan(start, end),
+        gameRepository.countByFinishedAtGreaterThanEqualAndFinishedAtLessThanAndWonTrue(start, end),
+        LocalDateTime.now());
+  }
+
+  private static final class Day {
+    private final LocalDate date;
+    private final AtomicLong games = new AtomicLong();
+    private final AtomicLong wins = new AtomicLong();
+    private final Set<Long> players = ConcurrentHashMap.newKeySet();
+
+    private Day(LocalDate date) {
+      this.date = date;
+    }
+
+    private DailyStats toStats() {
+      return new DailyStats(date, (long) players.size(), games.get(), wins.get(), LocalDateTime.now());
+    }
+  }
+}
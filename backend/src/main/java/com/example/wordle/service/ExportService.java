@@ -0,0 +1,170 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.GameExportRow;
+import com.example.wordle.dto.GuessExportRow;
+import com.example.wordle.repository.GameRepository;
+import com.example.wordle.repository.GuessRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+// Streams games and guesses to an output stream page by page using keyset pagination
+// (id > last id), so memory stays constant regardless of how many rows are exported.
+@Service
+public class ExportService {
+
+  public enum Format {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    Format(String contentType, String extension) {
+      this.contentType = contentType;
+      this.extension = extension;
+    }
+
+    public String getContentType() {
+      return contentType;
+    }
+
+    public String getExtension() {
+      return extension;
+    }
+
+    public static Format parse(String value) {
+      try {
+        return valueOf(value.toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("Unsupported export format: " + value);
+      }
+    }
+  }
+
+  // Lower bound for open-ended ranges; earlier than any game
+  private static final LocalDateTime EARLIEST = LocalDate.of(2000, 1, 1).atStartOfDay();
+
+  private static final String GAME_HEADER =
+      "id,playerId,wordId,word,won,guessesAllowed,guessesMade,finished,startedAt,finishedAt";
+  private static final String GUESS_HEADER = "id,gameId,guessedWord,feedback,guessedAt,candidatesRemaining";
+
+  private final GameRepository gameRepository;
+  private final GuessRepository guessRepository;
+  private final ObjectWriter jsonWriter;
+  private final int pageSize;
+
+  public ExportService(GameRepository gameRepository,
+      GuessRepository guessRepository,
+      ObjectMapper objectMapper,
+      @Value("${wordle.export.page-size:1000}") int pageSize) {
+    this.gameRepository = gameRepository;
+    this.guessRepository = guessRepository;
+    this.jsonWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    this.pageSize = pageSize;
+  }
+
+  // Games started in [from, to]; returns the number of rows written
+  public long exportGames(Format format, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+    LocalDateTime start = start(from);
+    LocalDateTime end = end(to);
+    return export(format, out, GAME_HEADER,
+        afterId -> gameRepository.findExportPage(afterId, start, end, Limit.of(pageSize)),
+        GameExportRow::id,
+        row -> csv(row.id(), row.playerId(), row.wordId(), row.word(), row.won(), row.guessesAllowed(),
+            row.guessesMade(), row.finished(), row.startedAt(), row.finishedAt()));
+  }
+
+  // Guesses made in [from, to]; returns the number of rows written
+  public long exportGuesses(Format format, LocalDate from, LocalDate to, OutputStream out) throws IOException {
+    LocalDateTime start = start(from);
+    LocalDateTime end = end(to);
+    return export(format, out, GUESS_HEADER,
+        afterId -> guessRepository.findExportPage(afterId, start, end, Limit.of(pageSize)),
+        GuessExportRow::id,
+        row -> csv(row.id(), row.gameId(), row.guessedWord(), row.feedback(), row.guessedAt(),
+            row.candidatesRemaining()));
+  }
+
+  private <T> long export(Format format, OutputStream out, String csvHeader,
+      Function<Long, List<T>> pageAfter, Function<T, Long> idOf, Function<T, String> csvLine) throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+    JsonGenerator json = null;
+    if (format == Format.NDJSON) {
+      // Rows are separated by our own newline rather than Jackson's default space
+      json = jsonWriter.getFactory().createGenerator(writer);
+      json.setRootValueSeparator(null);
+    }
+
+    if (format == Format.CSV) {
+      writer.write(csvHeader);
+      writer.write('\n');
+    }
+
+    long rows = 0;
+    long afterId = 0L;
+    List<T> page;
+    do {
+      page = pageAfter.apply(afterId);
+      for (T row : page) {
+        if (json != null) {
+          jsonWriter.writeValue(json, row);
+          json.writeRaw('\n');
+        } else {
+          writer.write(csvLine.apply(row));
+          writer.write('\n');
+        }
+      }
+      if (!page.isEmpty()) {
+        afterId = idOf.apply(page.get(page.size() - 1));
+        rows += page.size();
+      }
+      // Push each page to the client instead of buffering the export
+      if (json != null) {
+        json.flush();
+      } else {
+        writer.flush();
+      }
+    } while (page.size() == pageSize);
+
+    return rows;
+  }
+
+  // Values are numbers, booleans, timestamps and A-Z words, so no quoting is needed
+  private static String csv(Object... values) {
+    StringBuilder line = new StringBuilder(128);
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        line.append(',');
+      }
+      if (values[i] != null) {
+        line.append(values[i]);
+      }
+    }
+    return line.toString();
+  }
+
+  private static LocalDateTime start(LocalDate from) {
+    return from != null ? from.atStartOfDay() : EARLIEST;
+  }
+
+  private static LocalDateTime end(LocalDate to) {
+    return (to != null ? to : LocalDate.now()).plusDays(1).atStartOfDay();
+  }
+}
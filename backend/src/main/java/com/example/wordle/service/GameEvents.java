@@ -0,0 +1,222 @@
+package com.example.wordle.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Server-sent events per player: guess results, game starts and finishes, and quota
+// changes, pushed as they happen so clients need not poll the game status.
+// Each connection has a bounded queue drained by its own virtual thread, so publishing
+// never blocks a guess on a slow client and an idle connection costs a parked virtual
+// thread and an async request, not a server thread. A connection whose queue fills up is
+// closed; the client reconnects and reads the current state once. Heartbeat comments find
+// dead connections, and each stream ends after wordle.events.timeout-ms.
+@Service
+public class GameEvents {
+
+  private static final Logger log = LoggerFactory.getLogger(GameEvents.class);
+
+  // Queued in place of an event to make the sender write a heartbeat comment
+  private static final Event HEARTBEAT = new Event("heartbeat", null);
+
+  private final int bufferSize;
+  private final int maxSubscribers;
+  private final int maxPerPlayer;
+  private final long timeoutMs;
+  private final Map<Long, List<Subscriber>> players = new ConcurrentHashMap<>();
+  private final AtomicInteger subscribers = new AtomicInteger();
+  private final ScheduledExecutorService heartbeats;
+
+  private final AtomicLong published = new AtomicLong();
+  private final Counter overflowed;
+  private final Counter rejected;
+
+  public GameEvents(MeterRegistry registry,
+      @Value("${wordle.events.buffer-size:32}") int bufferSize,
+      @Value("${wordle.events.max-subscribers:20000}") int maxSubscribers,
+      @Value("${wordle.events.max-per-player:4}") int maxPerPlayer,
+      @Value("${wordle.events.timeout-ms:1800000}") long timeoutMs,
+      @Value("${wordle.events.heartbeat-ms:15000}") long heartbeatMs) {
+    this.bufferSize = bufferSize;
+    this.maxSubscribers = maxSubscribers;
+    this.maxPerPlayer = maxPerPlayer;
+    this.timeoutMs = timeoutMs;
+    Gauge.builder("wordle.events.subscribers", subscribers, AtomicInteger::get)
+        .description("Open event streams")
+        .register(registry);
+    this.overflowed = Counter.builder("wordle.events.closed").tag("reason", "overflow").register(registry);
+    this.rejected = Counter.builder("wordle.events.closed").tag("reason", "capacity").register(registry);
+    this.heartbeats = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "game-events-heartbeat");
+      thread.setDaemon(true);
+      return thread;
+    });
+    heartbeats.scheduleWithFixedDelay(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+  }
+
+  // Opens a stream for the player; beyond wordle.events.max-per-player their oldest one is closed
+  public SseEmitter subscribe(Long playerId) {
+    if (subscribers.incrementAndGet() > maxSubscribers) {
+      subscribers.decrementAndGet();
+      rejected.increment();
+      throw new IllegalStateException("Too many open event streams");
+    }
+    Subscriber subscriber = new Subscriber(playerId, new SseEmitter(timeoutMs));
+    List<Subscriber> displaced = new ArrayList<>();
+    players.compute(playerId, (id, list) -> {
+      List<Subscriber> next = list != null ? list : new CopyOnWriteArrayList<>();
+      next.add(subscriber);
+      while (next.size() > maxPerPlayer) {
+        displaced.add(next.remove(0));
+      }
+      return next;
+    });
+    displaced.forEach(Subscriber::complete);
+    subscriber.start();
+    return subscriber.emitter;
+  }
+
+  // Queues an event for every open stream of the player; never blocks
+  public void publish(Long playerId, String name, Object data) {
+    List<Subscriber> list = players.get(playerId);
+    if (list == null) {
+      return;
+    }
+    Event event = new Event(name, data);
+    for (Subscriber subscriber : list) {
+      if (subscriber.queue.offer(event)) {
+        published.incrementAndGet();
+      } else {
+        // Too far behind to catch up; the client reconnects and starts from the current state
+        overflowed.increment();
+        subscriber.complete();
+      }
+    }
+  }
+
+  // Players with at least one open stream
+  public Set<Long> subscribedPlayers() {
+    return players.keySet();
+  }
+
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("subscribers", subscribers.get());
+    stats.put("players", players.size());
+    stats.put("maxSubscribers", maxSubscribers);
+    stats.put("bufferSize", bufferSize);
+    stats.put("published", published.get());
+    stats.put("closedOnOverflow", (long) overflowed.count());
+    stats.put("rejected", (long) rejected.count());
+    return stats;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    heartbeats.shutdownNow();
+    for (List<Subscriber> list : players.values()) {
+      list.forEach(Subscriber::complete);
+    }
+  }
+
+  // A full queue already has writes pending that will find a dead connection
+  private void heartbeat() {
+    for (List<Subscriber> list : players.values()) {
+      for (Subscriber subscriber : list) {
+        subscriber.queue.offer(HEARTBEAT);
+      }
+    }
+  }
+
+  private void remove(Subscriber subscriber) {
+    players.computeIfPresent(subscriber.playerId, (id, list) -> {
+      list.remove(subscriber);
+      return list.isEmpty() ? null : list;
+    });
+  }
+
+  private record Event(String name, Object data) {
+  }
+
+  // One open stream and the virtual thread writing to it
+  private final class Subscriber {
+    private final Long playerId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Event> queue = new ArrayBlockingQueue<>(bufferSize);
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile Thread sender;
+
+    Subscriber(Long playerId, SseEmitter emitter) {
+      this.playerId = playerId;
+      this.emitter = emitter;
+      emitter.onCompletion(this::close);
+      emitter.onTimeout(this::close);
+      emitter.onError(error -> close());
+    }
+
+    void start() {
+      sender = Thread.ofVirtual().name("game-events-" + playerId).start(this::send);
+    }
+
+    private void send() {
+      try {
+        while (!closed.get()) {
+          Event event = queue.take();
+          if (event == HEARTBEAT) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+          } else {
+            emitter.send(SseEmitter.event().name(event.name()).data(event.data(), MediaType.APPLICATION_JSON));
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } catch (IOException | IllegalStateException e) {
+        // Client gone or stream already completed
+        log.debug("Event stream for player {} closed: {}", playerId, e.getMessage());
+        emitter.completeWithError(e);
+        close();
+      }
+    }
+
+    void complete() {
+      emitter.complete();
+      close();
+    }
+
+    private void close() {
+      if (!closed.compareAndSet(false, true)) {
+        return;
+      }
+      subscribers.decrementAndGet();
+      remove(this);
+      Thread thread = sender;
+      if (thread != null && thread != Thread.currentThread()) {
+        thread.interrupt();
+      }
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.example.wordle.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+// Meters for the game endpoints, registered once so the hot path only records
+@Component
+public class GameMetrics {
+
+  private final Timer startTimer;
+  private final Timer guessTimer;
+  private final Counter started;
+  private final Counter won;
+  private final Counter lost;
+  private final Counter dailyLimitRejected;
+  private final Counter guessRejected;
+  private final DistributionSummary guessesPerGame;
+
+  public GameMetrics(MeterRegistry registry) {
+    this.startTimer = Timer.builder("wordle.game.start")
+        .description("GameService.startNewGame latency")
+        .publishPercentileHistogram()
+        .register(registry);
+    this.guessTimer = Timer.builder("wordle.game.guess")
+        .description("GameService.makeGuess latency, including scoring")
+        .publishPercentileHistogram()
+        .register(registry);
+    this.started = Counter.builder("wordle.games.started").register(registry);
+    this.won = Counter.builder("wordle.games.finished").tag("result", "won").register(registry);
+    this.lost = Counter.builder("wordle.games.finished").tag("result", "lost").register(registry);
+    this.dailyLimitRejected = Counter.builder("wordle.games.rejected")
+        .tag("reason", "daily_limit")
+        .register(registry);
+    this.guessRejected = Counter.builder("wordle.guesses.rejected")
+        .tag("reason", "not_in_list")
+        .register(registry);
+    this.guessesPerGame = DistributionSummary.builder("wordle.games.guesses")
+        .description("Guesses made in a finished game")
+        .serviceLevelObjectives(1, 2, 3, 4, 5, 6)
+        .register(registry);
+  }
+
+  public Timer startTimer() {
+    return startTimer;
+  }
+
+  public Timer guessTimer() {
+    return guessTimer;
+  }
+
+  public void gameStarted() {
+    started.increment();
+  }
+
+  public void gameFinished(boolean gameWon, int guesses) {
+    (gameWon ? won : lost).increment();
+    guessesPerGame.record(guesses);
+  }
+
+  public void dailyLimitRejected() {
+    dailyLimitRejected.increment();
+  }
+
+  public void guessRejected() {
+    guessRejected.increment();
+  }
+}
@@ -1,11 +1,14 @@
 package com.example.wordle.service;
 
+import com.example.wordle.dto.GameView;
+import com.example.wordle.dto.GuessView;
+import com.example.wordle.engine.Feedback;
+import com.example.wordle.engine.PackedWord;
 import com.example.wordle.model.Game;
 import com.example.wordle.model.Guess;
 import com.example.wordle.model.User;
 import com.example.wordle.model.Word;
 import com.example.wordle.repository.GameRepository;
-import com.example.wordle.repository.GuessRepository;
 import com.example.wordle.repository.UserRepository;
 import com.example.wordle.repository.WordRepository;
 import org.springframework.stereotype.Service;
@@ -15,29 +18,67 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 public class GameService {
 
   private final GameRepository gameRepository;
   private final WordRepository wordRepository;
-  private final GuessRepository guessRepository;
   private final UserRepository userRepository;
+  private final WordDictionary wordDictionary;
+  private final SolvedWordIndex solvedWordIndex;
+  private final GameSessionStore gameSessions;
+  private final GuessWriteBehind guessWriteBehind;
+  private final DailyRollupService dailyRollupService;
+  private final GameMetrics gameMetrics;
+  private final DailyQuotaService dailyQuota;
+  private final AllowedGuesses allowedGuesses;
+  private final CandidateTracker candidateTracker;
+  private final LeaderboardService leaderboard;
+  private final PlayerStatsService playerStats;
+  private final GameEvents gameEvents;
   private final Random random = new Random();
 
   public GameService(GameRepository gameRepository,
       WordRepository wordRepository,
-      GuessRepository guessRepository,
-      UserRepository userRepository) {
+      UserRepository userRepository,
+      WordDictionary wordDictionary,
+      SolvedWordIndex solvedWordIndex,
+      GameSessionStore gameSessions,
+      GuessWriteBehind guessWriteBehind,
+      DailyRollupService dailyRollupService,
+      GameMetrics gameMetrics,
+      DailyQuotaService dailyQuota,
+      AllowedGuesses allowedGuesses,
+      CandidateTracker candidateTracker,
+      LeaderboardService leaderboard,
+      PlayerStatsService playerStats,
+      GameEvents gameEvents) {
     this.gameRepository = gameRepository;
     this.wordRepository = wordRepository;
-    this.guessRepository = guessRepository;
     this.userRepository = userRepository;
+    this.wordDictionary = wordDictionary;
+    this.solvedWordIndex = solvedWordIndex;
+    this.gameSessions = gameSessions;
+    this.guessWriteBehind = guessWriteBehind;
+    this.dailyRollupService = dailyRollupService;
+    this.gameMetrics = gameMetrics;
+    this.dailyQuota = dailyQuota;
+    this.allowedGuesses = allowedGuesses;
+    this.candidateTracker = candidateTracker;
+    this.leaderboard = leaderboard;
+    this.playerStats = playerStats;
+    this.gameEvents = gameEvents;
   }
 
   // Start a new game
   @Transactional
   public Game startNewGame(Long userId) {
+    return gameMetrics.startTimer().record(() -> start(userId));
+  }
+
+  private Game start(Long userId) {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
@@ -45,31 +86,36 @@ public class GameService {
     LocalDateTime startOfDay = today.atStartOfDay();
 
     // Check if user has an unfinished game today
-    List<Game> unfinishedGames = gameRepository.findByPlayer_IdAndStartedAtBetweenAndFinishedFalse(
+    List<Game> unfinishedGames = gameRepository.findUnfinishedStartedBetween(
         userId,
         startOfDay,
         today.plusDays(1).atStartOfDay());
 
-    if (!unfinishedGames.isEmpty()) {
+    // Games finished in memory but not yet flushed no longer count
+    Game unfinished = unfinishedGames.stream()
+        .map(guessWriteBehind::applyPending)
+        .filter(g -> !g.getFinished())
+        .findFirst()
+        .orElse(null);
+
+    if (unfinished != null) {
       // Return the first unfinished game
-      return unfinishedGames.get(0);
+      TransactionHooks.afterCommit(() -> gameSessions.put(unfinished));
+      return unfinished;
     }
-    // Check max 3 games/day
-    long gamesToday = gameRepository.findAllByPlayerIdAndFinishedFalse(userId)
-        .stream()
-        .filter(g -> !g.getFinished() && g.getStartedAt().isAfter(startOfDay))
-        .count();
-
-    if (gamesToday >= 3) {
-      throw new IllegalStateException("Maximum 3 games per day allowed");
+    // Check the daily limit; every game started today counts, finished or not
+    if (!dailyQuota.tryAcquire(userId, today)) {
+      gameMetrics.dailyLimitRejected();
+      throw new IllegalStateException("Maximum " + dailyQuota.getLimit() + " games per day allowed");
     }
 
-    // Pick random word not already guessed
-    List<Word> availableWords = wordRepository.findActiveWordsNotGuessedByUser(userId);
-    if (availableWords.isEmpty()) {
+    // Pick random active word not already guessed
+    int wordId = wordDictionary.randomWordId(solvedWordIndex.solvedWords(userId), random);
+    if (wordId < 0) {
       throw new IllegalStateException("No available words for you today");
     }
-    Word word = availableWords.get(random.nextInt(availableWords.size()));
+    Word word = wordRepository.findById(wordId)
+        .orElseThrow(() -> new IllegalStateException("No available words for you today"));
 
     // Create game
     Game game = new Game();
@@ -81,44 +127,86 @@ public class GameService {
     game.setFinished(false);
     game.setStartedAt(LocalDateTime.now());
 
-    return gameRepository.save(game);
+    Game saved = gameRepository.save(game);
+    TransactionHooks.afterCommit(() -> {
+      gameSessions.put(saved);
+      dailyRollupService.gameStarted(user, saved.getStartedAt());
+      gameMetrics.gameStarted();
+      gameEvents.publish(userId, "game", GameView.of(saved));
+      gameEvents.publish(userId, "quota", dailyQuota.quota(userId));
+    });
+    return saved;
   }
 
   // Make a guess
-  @Transactional
-  public Guess makeGuess(Long gameId, String guessText) {
-    Game game = gameRepository.findById(gameId)
-        .orElseThrow(() -> new IllegalArgumentException("Game not found"));
+  // Guesses on the same game are serialized by the session lock. Rows are handed to the
+  // write-behind queue; on any failure the cached session is dropped and reloaded.
+  // The response is built under the lock so it matches the state this guess produced
+  public GuessView makeGuess(Long gameId, String guessText) {
+    int guessWord = PackedWord.encode(guessText);
+    if (guessWord == PackedWord.INVALID) {
+      throw new IllegalArgumentException("Guess must be exactly 5 letters");
+    }
+    // Rejected before the game is loaded or locked
+    if (!allowedGuesses.isAllowed(guessWord)) {
+      gameMetrics.guessRejected();
+      throw new IllegalArgumentException("Not in word list");
+    }
+
+    return gameMetrics.guessTimer().record(() -> {
+      ReentrantLock lock = gameSessions.lockFor(gameId);
+      lock.lock();
+      try {
+        Guess guess = applyGuess(gameId, guessWord);
+        GuessView view = GuessView.of(guess);
+        // Published under the lock so streams see a game's guesses in order
+        Game game = guess.getGame();
+        gameEvents.publish(game.getPlayer().getId(), "guess", view);
+        if (game.getFinished()) {
+          gameEvents.publish(game.getPlayer().getId(), "game", GameView.of(game));
+        }
+        return view;
+      } catch (RuntimeException e) {
+        gameSessions.evict(gameId);
+        throw e;
+      } finally {
+        lock.unlock();
+      }
+    });
+  }
+
+  private Guess applyGuess(Long gameId, int guessWord) {
+    Game game = gameSessions.load(gameId, () -> gameRepository.findById(gameId)
+        .map(guessWriteBehind::applyPending)
+        .orElseThrow(() -> new IllegalArgumentException("Game not found")));
 
     if (game.getFinished()) {
       throw new IllegalStateException("Game is already finished");
     }
 
     if (game.getGuessesMade() >= game.getGuessesAllowed()) {
-      game.setGuessesMade(game.getGuessesAllowed());
+      // Out of guesses but never closed: close it as lost so the player can start a new game
       game.setFinished(true);
       game.setFinishedAt(LocalDateTime.now());
-      gameRepository.save(game);
+      guessWriteBehind.writeProgress(game);
+      gameFinished(game);
+      gameEvents.publish(game.getPlayer().getId(), "game", GameView.of(game));
       throw new IllegalStateException("Maximum guesses reached");
     }
 
-    if (guessText.length() != 5) {
-      throw new IllegalArgumentException("Guess must be exactly 5 letters");
-    }
+    int target = PackedWord.encode(game.getWord().getWord());
+    int feedbackCode = Feedback.score(target, guessWord);
 
-    String feedback = generateFeedback(game.getWord().getWord(), guessText);
-
-    // Save guess
     Guess guess = new Guess();
     guess.setGame(game);
-    guess.setGuessedWord(guessText.toUpperCase());
-    guess.setFeedback(feedback);
-    guessRepository.save(guess);
+    guess.setGuessedWord(PackedWord.decode(guessWord));
+    guess.setFeedback(Feedback.toPattern(feedbackCode));
+    guess.setCandidatesRemaining(candidateTracker.track(game, target, guessWord, feedbackCode));
 
     // Update game status
     game.setGuessesMade(game.getGuessesMade() + 1);
 
-    if ("GGGGG".equals(feedback)) {
+    if (feedbackCode == Feedback.ALL_GREEN) {
       game.setWon(true);
       game.setFinished(true);
       game.setFinishedAt(LocalDateTime.now());
@@ -127,52 +215,53 @@ public class GameService {
       game.setFinishedAt(LocalDateTime.now());
     }
 
-    gameRepository.save(game);
+    // Save guess and game state; in SYNC_ON_FINISH mode a finishing guess is written first,
+    // and fails here, before the finish hooks, if it cannot be
+    guessWriteBehind.write(guess, game);
+    if (game.getFinished()) {
+      gameFinished(game);
+    }
     return guess;
   }
 
-  // Feedback generator
-  private String generateFeedback(String targetWord, String guess) {
-    targetWord = targetWord.toUpperCase();
-    guess = guess.toUpperCase();
-    char[] feedback = new char[5];
-    boolean[] used = new boolean[5];
-
-    // First pass: correct letters in correct position
-    for (int i = 0; i < 5; i++) {
-      if (guess.charAt(i) == targetWord.charAt(i)) {
-        feedback[i] = 'G';
-        used[i] = true;
-      }
+  // Runs once a finished game's state has been queued for writing
+  private void gameFinished(Game game) {
+    if (game.getWon()) {
+      solvedWordIndex.markSolved(game.getPlayer().getId(), game.getWord().getId());
     }
+    gameSessions.evict(game.getId());
+    dailyRollupService.gameFinished(game.getWon(), game.getFinishedAt());
+    leaderboard.gameFinished(game);
+    playerStats.gameFinished(game);
+    gameMetrics.gameFinished(game.getWon(), game.getGuessesMade());
+  }
 
-    // Second pass: correct letters in wrong position
-    for (int i = 0; i < 5; i++) {
-      if (feedback[i] == 'G')
-        continue;
-      boolean found = false;
-      for (int j = 0; j < 5; j++) {
-        if (!used[j] && guess.charAt(i) == targetWord.charAt(j)) {
-          found = true;
-          used[j] = true;
-          break;
-        }
-      }
-      feedback[i] = found ? 'O' : '-';
+  // Get game by ID
+  // Player-facing state, read under the game's lock so a guess in flight is never seen half-applied
+  public GameView getGameView(Long gameId) {
+    ReentrantLock lock = gameSessions.lockFor(gameId);
+    lock.lock();
+    try {
+      return GameView.of(getGameById(gameId));
+    } finally {
+      lock.unlock();
     }
-
-    return new String(feedback);
   }
 
-  // Get game by ID
+  // The live session instance for an unfinished cached game; callers hold the game's lock
   public Game getGameById(Long gameId) {
+    Game cached = gameSessions.get(gameId);
+    if (cached != null) {
+      return cached;
+    }
     return gameRepository.findById(gameId)
+        .map(guessWriteBehind::applyPending)
         .orElseThrow(() -> new IllegalArgumentException("Game not found"));
   }
 
-  public List<Game> getGamesPlayedToday(Long userId) {
+  public List<GameView> getGamesPlayedToday(Long userId) {
     LocalDate today = LocalDate.now();
-    return gameRepository.findByPlayer_IdAndStartedAtBetweenAndFinishedTrue(
+    return gameRepository.findFinishedViewsStartedBetween(
         userId,
         today.atStartOfDay(),
         today.plusDays(1).atStartOfDay());
@@ -0,0 +1,111 @@
+package com.example.wordle.service;
+
+import com.example.wordle.engine.CandidateSet;
+import com.example.wordle.model.Game;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// Hot state of unfinished games, keyed by game id.
+// Entries are detached copies: GameService mutates them under the game's stripe lock and
+// writes the changes back explicitly. Finished and idle games are evicted.
+@Component
+public class GameSessionStore {
+
+  private final ConcurrentHashMap<Long, Session> sessions = new ConcurrentHashMap<>();
+  private final ReentrantLock[] stripes;
+  private final long idleTimeoutMs;
+
+  public GameSessionStore(@Value("${wordle.sessions.lock-stripes:256}") int stripeCount,
+      @Value("${wordle.sessions.idle-timeout:30m}") Duration idleTimeout) {
+    this.stripes = new ReentrantLock[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+    this.idleTimeoutMs = idleTimeout.toMillis();
+  }
+
+  // Guesses on one game are serialized; different games rarely share a stripe
+  public ReentrantLock lockFor(Long gameId) {
+    int hash = Long.hashCode(gameId) * 0x9E3779B9;
+    return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+  }
+
+  // Cached game, or null; callers hold the game's lock while they read or change it
+  public Game get(Long gameId) {
+    Session session = sessions.get(gameId);
+    if (session == null) {
+      return null;
+    }
+    session.lastAccess = System.currentTimeMillis();
+    return session.game;
+  }
+
+  // Cached game, loading and caching it on a miss; callers hold the game's lock
+  public Game load(Long gameId, Supplier<Game> loader) {
+    Game game = get(gameId);
+    if (game != null) {
+      return game;
+    }
+    Game loaded = loader.get();
+    if (Boolean.TRUE.equals(loaded.getFinished())) {
+      return loaded;
+    }
+    return put(loaded);
+  }
+
+  // Caches a detached copy of an unfinished game unless one is already cached, and
+  // returns the cached instance; an existing session is never replaced under a guess in flight
+  public Game put(Game game) {
+    return sessions.computeIfAbsent(game.getId(), id -> new Session(copy(game))).game;
+  }
+
+  // Remaining answers tracked for a cached game, or null; callers hold the game's lock
+  public CandidateSet candidates(Long gameId) {
+    Session session = sessions.get(gameId);
+    return session == null ? null : session.candidates;
+  }
+
+  // Ignored when the game is not cached, e.g. once it has finished
+  public void setCandidates(Long gameId, CandidateSet candidates) {
+    Session session = sessions.get(gameId);
+    if (session != null) {
+      session.candidates = candidates;
+    }
+  }
+
+  public void evict(Long gameId) {
+    sessions.remove(gameId);
+  }
+
+  public int size() {
+    return sessions.size();
+  }
+
+  @Scheduled(fixedDelayString = "${wordle.sessions.sweep-interval-ms:60000}")
+  public void evictIdle() {
+    long cutoff = System.currentTimeMillis() - idleTimeoutMs;
+    sessions.values().removeIf(session -> session.lastAccess < cutoff);
+  }
+
+  private static Game copy(Game game) {
+    return new Game(game.getId(), game.getPlayer(), game.getWord(), game.getWon(),
+        game.getGuessesAllowed(), game.getGuessesMade(), game.getFinished(),
+        game.getStartedAt(), game.getFinishedAt());
+  }
+
+  private static final class Session {
+    private final Game game;
+    private volatile long lastAccess = System.currentTimeMillis();
+    private CandidateSet candidates;
+
+    private Session(Game game) {
+      this.game = game;
+    }
+  }
+}
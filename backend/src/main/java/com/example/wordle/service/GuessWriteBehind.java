@@ -0,0 +1,379 @@
+package com.example.wordle.service;
+
+import com.example.wordle.model.Game;
+import com.example.wordle.model.Guess;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Write-behind pipeline for guesses and game progress.
+// Each queued guess carries its game's state after it; a batch inserts its guess rows and
+// then, in the same transaction, updates each of its games once to the latest of those
+// states, so a game's progress never reaches the database ahead of the guesses it counts.
+// A flush runs every flush interval, as soon as
+// a batch is full, and - in SYNC_ON_FINISH mode - on the caller's thread when a game ends.
+// Once write() has queued a guess it is accepted: a failed flush keeps its rows, in order,
+// for the next one, and progress stays visible to applyPending until its update commits.
+// A batch that fails wordle.guess-writes.max-attempts times in a row is logged and dropped,
+// so one bad row cannot hold up every later write.
+@Component
+public class GuessWriteBehind {
+
+  public enum Durability {
+    // Write a finishing guess before it returns; if its batch is dropped the guess fails
+    SYNC_ON_FINISH,
+    // Never block the guess; rely on the background flush
+    ASYNC
+  }
+
+  private static final Logger log = LoggerFactory.getLogger(GuessWriteBehind.class);
+
+  private static final String INSERT_GUESS =
+      "INSERT INTO guesses (game_id, guessed_word, feedback, guessed_at, candidates_remaining) VALUES (?, ?, ?, ?, ?)";
+  private static final String UPDATE_GAME =
+      "UPDATE games SET guesses_made = ?, won = ?, finished = ?, finished_at = ? WHERE id = ?";
+  private static final String SELECT_GUESSED_WORDS =
+      "SELECT guessed_word FROM guesses WHERE game_id = ? ORDER BY id";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final Durability durability;
+  private final int batchSize;
+  private final int maxAttempts;
+  private final BlockingQueue<PendingGuess> guesses;
+  // Rows of a failed batch, written before anything queued after them; guarded by flushLock
+  private final List<PendingGuess> retry = new ArrayList<>();
+  private int retryAttempts;
+  // Latest queued state per game, for applyPending; removed once it has committed
+  private final ConcurrentHashMap<Long, GameProgress> progress = new ConcurrentHashMap<>();
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final AtomicBoolean flushRequested = new AtomicBoolean();
+  private final ScheduledExecutorService flusher;
+
+  private final AtomicLong flushes = new AtomicLong();
+  private final AtomicLong flushedGuesses = new AtomicLong();
+  private final AtomicLong flushedGames = new AtomicLong();
+  private final AtomicLong failedFlushes = new AtomicLong();
+  private final AtomicLong droppedGuesses = new AtomicLong();
+  private final AtomicLong totalFlushNanos = new AtomicLong();
+  private final AtomicLong maxFlushNanos = new AtomicLong();
+  private volatile long lastFlushNanos;
+
+  public GuessWriteBehind(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${wordle.guess-writes.durability:SYNC_ON_FINISH}") Durability durability,
+      @Value("${wordle.guess-writes.batch-size:500}") int batchSize,
+      @Value("${wordle.guess-writes.queue-capacity:50000}") int queueCapacity,
+      @Value("${wordle.guess-writes.flush-interval-ms:200}") long flushIntervalMs,
+      @Value("${wordle.guess-writes.max-attempts:5}") int maxAttempts) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.durability = durability;
+    this.batchSize = batchSize;
+    this.maxAttempts = maxAttempts;
+    this.guesses = new ArrayBlockingQueue<>(queueCapacity);
+    this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "guess-write-behind");
+      thread.setDaemon(true);
+      return thread;
+    });
+    flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  // Queue a guess and the resulting game state; the caller holds the game's session lock.
+  // Throws when the queue stays full because back-pressure flushes keep failing, before
+  // anything is queued, and in SYNC_ON_FINISH mode when a finishing guess's batch is dropped.
+  // Otherwise the guess is accepted and a failed flush is retried later.
+  public void write(Guess guess, Game game) {
+    queue(game, guess.getGuessedWord(), guess.getFeedback(), guess.getGuessedAt(), guess.getCandidatesRemaining());
+  }
+
+  // Queue a game state that no guess led to, such as a game closed once it is out of guesses;
+  // ordered and made durable like a guess, with no row inserted
+  public void writeProgress(Game game) {
+    queue(game, null, null, null, null);
+  }
+
+  private void queue(Game game, String guessedWord, String feedback, LocalDateTime guessedAt,
+      Integer candidatesRemaining) {
+    GameProgress state = new GameProgress(game.getGuessesMade(), game.getWon(), game.getFinished(),
+        game.getFinishedAt());
+    boolean sync = game.getFinished() && durability == Durability.SYNC_ON_FINISH;
+    PendingGuess pending = new PendingGuess(game.getId(), guessedWord, feedback, guessedAt,
+        candidatesRemaining, state, sync ? new CompletableFuture<>() : null);
+
+    // Queue full: apply back-pressure by flushing on the caller's thread
+    int failures = 0;
+    while (!guesses.offer(pending)) {
+      try {
+        flush();
+      } catch (RuntimeException e) {
+        if (++failures >= maxAttempts) {
+          throw new IllegalStateException("Guesses cannot be saved right now", e);
+        }
+      }
+    }
+    progress.put(game.getId(), state);
+
+    if (sync) {
+      awaitWritten(pending);
+    } else if (guesses.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+      flusher.execute(this::flushQuietly);
+    }
+  }
+
+  // Overlay progress that has not reached the database yet onto a freshly loaded game
+  public Game applyPending(Game game) {
+    GameProgress pending = progress.get(game.getId());
+    if (pending != null) {
+      game.setGuessesMade(pending.guessesMade());
+      game.setWon(pending.won());
+      game.setFinished(pending.finished());
+      game.setFinishedAt(pending.finishedAt());
+    }
+    return game;
+  }
+
+  // Write everything queued when the flush starts; rows queued meanwhile may wait for the
+  // next one. Failed rows are kept for the next flush and the error is rethrown.
+  // The lock is taken per batch, so guessedWords waits for at most one.
+  public void flush() {
+    flushRequested.set(false);
+    int budget;
+    flushLock.lock();
+    try {
+      budget = retry.size() + guesses.size();
+    } finally {
+      flushLock.unlock();
+    }
+    while (budget > 0) {
+      int written;
+      flushLock.lock();
+      try {
+        written = flushBatch();
+      } finally {
+        flushLock.unlock();
+      }
+      if (written == 0) {
+        break;
+      }
+      budget -= written;
+    }
+  }
+
+  // Words guessed in a game so far, in order, whether stored or still queued; the caller holds
+  // the game's session lock. No batch is being written while the lock is held, so every row
+  // is either committed or still pending, and none is read twice.
+  public List<String> guessedWords(Long gameId) {
+    flushLock.lock();
+    try {
+      List<String> words = new ArrayList<>(jdbcTemplate.queryForList(SELECT_GUESSED_WORDS, String.class, gameId));
+      for (PendingGuess guess : retry) {
+        if (guess.gameId().equals(gameId) && guess.hasRow()) {
+          words.add(guess.guessedWord());
+        }
+      }
+      for (PendingGuess guess : guesses) {
+        if (guess.gameId().equals(gameId) && guess.hasRow()) {
+          words.add(guess.guessedWord());
+        }
+      }
+      return words;
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  public Map<String, Object> getStats() {
+    long count = flushes.get();
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("durability", durability);
+    stats.put("queuedGuesses", guesses.size());
+    stats.put("pendingGameUpdates", progress.size());
+    stats.put("flushes", count);
+    stats.put("flushedGuesses", flushedGuesses.get());
+    stats.put("flushedGameUpdates", flushedGames.get());
+    stats.put("failedFlushes", failedFlushes.get());
+    stats.put("retryGuesses", retry.size());
+    stats.put("droppedGuesses", droppedGuesses.get());
+    stats.put("lastFlushMs", lastFlushNanos / 1_000_000.0);
+    stats.put("avgFlushMs", count == 0 ? 0.0 : totalFlushNanos.get() / 1_000_000.0 / count);
+    stats.put("maxFlushMs", maxFlushNanos.get() / 1_000_000.0);
+    return stats;
+  }
+
+  public int queueDepth() {
+    return guesses.size();
+  }
+
+  public long failedFlushes() {
+    return failedFlushes.get();
+  }
+
+  public long droppedGuesses() {
+    return droppedGuesses.get();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    flusher.shutdown();
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      log.error("Final guess flush failed, {} guesses not written", retry.size() + guesses.size(), e);
+    }
+  }
+
+  // Flushes until the guess's batch has committed or been dropped; every failed attempt brings
+  // the batch ahead of it closer to its retry limit, so this ends
+  private void awaitWritten(PendingGuess pending) {
+    while (!pending.written().isDone()) {
+      try {
+        flush();
+      } catch (RuntimeException e) {
+        // Counted and logged by the flush
+      }
+    }
+    if (pending.written().isCompletedExceptionally()) {
+      throw new IllegalStateException("Could not save the finished game", pending.written().exceptionNow());
+    }
+  }
+
+  private void flushQuietly() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      // Already counted and kept; the next tick retries
+    }
+  }
+
+  // Caller holds flushLock
+  private int flushBatch() {
+    List<PendingGuess> batch;
+    if (!retry.isEmpty()) {
+      // The failed batch goes first, so rows are written in the order they were queued
+      batch = new ArrayList<>(retry);
+    } else {
+      batch = new ArrayList<>(Math.min(batchSize, guesses.size()));
+      guesses.drainTo(batch, batchSize);
+    }
+
+    if (batch.isEmpty()) {
+      return 0;
+    }
+    // The state after each game's last guess in the batch; entries stay in progress, where
+    // applyPending still sees them, until the update has committed
+    Map<Long, GameProgress> games = new LinkedHashMap<>();
+    List<PendingGuess> rows = new ArrayList<>(batch.size());
+    for (PendingGuess guess : batch) {
+      games.put(guess.gameId(), guess.state());
+      if (guess.hasRow()) {
+        rows.add(guess);
+      }
+    }
+
+    long start = System.nanoTime();
+    try {
+      transactionTemplate.executeWithoutResult(status -> {
+        if (!rows.isEmpty()) {
+          jdbcTemplate.batchUpdate(INSERT_GUESS, rows, rows.size(), (ps, guess) -> {
+            ps.setLong(1, guess.gameId());
+            ps.setString(2, guess.guessedWord());
+            ps.setString(3, guess.feedback());
+            ps.setTimestamp(4, Timestamp.valueOf(guess.guessedAt()));
+            ps.setObject(5, guess.candidatesRemaining(), Types.INTEGER);
+          });
+        }
+        List<Map.Entry<Long, GameProgress>> updates = new ArrayList<>(games.entrySet());
+        jdbcTemplate.batchUpdate(UPDATE_GAME, updates, updates.size(), (ps, row) -> {
+          GameProgress state = row.getValue();
+          ps.setInt(1, state.guessesMade());
+          ps.setBoolean(2, state.won());
+          ps.setBoolean(3, state.finished());
+          ps.setTimestamp(4, state.finishedAt() == null ? null : Timestamp.valueOf(state.finishedAt()));
+          ps.setLong(5, row.getKey());
+        });
+      });
+    } catch (RuntimeException e) {
+      failedFlushes.incrementAndGet();
+      if (retry.isEmpty()) {
+        retry.addAll(batch);
+      }
+      if (++retryAttempts < maxAttempts) {
+        log.error("Guess flush failed ({} guesses, {} game updates kept for retry, attempt {} of {})",
+            rows.size(), games.size(), retryAttempts, maxAttempts, e);
+      } else {
+        // Give up on the batch; applyPending falls back to what the database holds
+        log.error("Guess flush failed {} times, dropping {} guesses and {} game updates: {}",
+            retryAttempts, rows.size(), games.size(), batch, e);
+        droppedGuesses.addAndGet(rows.size());
+        games.forEach(progress::remove);
+        batch.forEach(guess -> guess.dropped(e));
+        retry.clear();
+        retryAttempts = 0;
+      }
+      throw e;
+    }
+    retry.clear();
+    retryAttempts = 0;
+    batch.forEach(PendingGuess::committed);
+    // A newer state queued meanwhile stays for the next flush
+    games.forEach(progress::remove);
+
+    long elapsed = System.nanoTime() - start;
+    flushes.incrementAndGet();
+    flushedGuesses.addAndGet(rows.size());
+    flushedGames.addAndGet(games.size());
+    totalFlushNanos.addAndGet(elapsed);
+    maxFlushNanos.accumulateAndGet(elapsed, Math::max);
+    lastFlushNanos = elapsed;
+    return batch.size();
+  }
+
+  private record PendingGuess(Long gameId, String guessedWord, String feedback, LocalDateTime guessedAt,
+      Integer candidatesRemaining, GameProgress state, CompletableFuture<Void> written) {
+
+    // False for a progress-only entry from writeProgress
+    boolean hasRow() {
+      return guessedWord != null;
+    }
+
+    void committed() {
+      if (written != null) {
+        written.complete(null);
+      }
+    }
+
+    void dropped(RuntimeException e) {
+      if (written != null) {
+        written.completeExceptionally(e);
+      }
+    }
+  }
+
+  private record GameProgress(int guessesMade, boolean won, boolean finished, LocalDateTime finishedAt) {
+  }
+}
@@ -0,0 +1,289 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.HintView;
+import com.example.wordle.engine.Feedback;
+import com.example.wordle.engine.FeedbackMatrix;
+import com.example.wordle.engine.PackedWord;
+import com.example.wordle.model.Game;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Suggests the next guess for a game: the dictionary word with the highest expected
+// information over the answers still consistent with the game's feedback.
+// Backed by a FeedbackMatrix over the active words. Word edits are applied to it in O(n)
+// as WordDictionary reports them; full rebuilds (startup, imports) run in the background.
+// The matrix takes words^2 bytes, so it is not built past wordle.hints.max-words.
+@Service
+public class HintService implements WordDictionary.Listener {
+
+  private static final Logger log = LoggerFactory.getLogger(HintService.class);
+
+  private final WordDictionary wordDictionary;
+  private final GameService gameService;
+  private final GameSessionStore gameSessions;
+  private final CandidateTracker candidateTracker;
+  private final Timer hintTimer;
+  private final int maxWords;
+  private final ExecutorService builder;
+  private final AtomicBoolean buildPending = new AtomicBoolean();
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // Guarded by lock; matrix is null until the first build, or while disabled
+  private FeedbackMatrix matrix;
+  private final Map<Integer, Integer> slotByWordId = new HashMap<>();
+  private final Map<Integer, Integer> slotByWord = new HashMap<>();
+  // Best first guess; computed once per dictionary state
+  private volatile FeedbackMatrix.Ranking opening;
+
+  private volatile long lastBuildMs;
+  private volatile LocalDateTime builtAt;
+
+  public HintService(WordDictionary wordDictionary,
+      GameService gameService,
+      GameSessionStore gameSessions,
+      CandidateTracker candidateTracker,
+      MeterRegistry registry,
+      @Value("${wordle.hints.max-words:15000}") int maxWords) {
+    this.wordDictionary = wordDictionary;
+    this.gameService = gameService;
+    this.gameSessions = gameSessions;
+    this.candidateTracker = candidateTracker;
+    this.hintTimer = Timer.builder("wordle.game.hint")
+        .description("HintService.hint latency")
+        .publishPercentileHistogram()
+        .register(registry);
+    this.maxWords = maxWords;
+    this.builder = Executors.newSingleThreadExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "hint-matrix");
+      thread.setDaemon(true);
+      return thread;
+    });
+    wordDictionary.addListener(this);
+  }
+
+  public HintView hint(Long gameId) {
+    return hintTimer.record(() -> {
+      int target;
+      int[] guesses;
+      // The session's candidate set holds every guess, queued or written; the game's lock
+      // keeps a guess in flight from changing it while it is read
+      ReentrantLock gameLock = gameSessions.lockFor(gameId);
+      gameLock.lock();
+      try {
+        Game game = gameService.getGameById(gameId);
+        if (game.getFinished()) {
+          throw new IllegalStateException("Game is already finished");
+        }
+        target = PackedWord.encode(game.getWord().getWord());
+        guesses = candidateTracker.guesses(game, target);
+      } finally {
+        gameLock.unlock();
+      }
+      return suggest(gameId, target, guesses);
+    });
+  }
+
+  private HintView suggest(Long gameId, int target, int[] guesses) {
+    lock.readLock().lock();
+    try {
+      if (matrix == null) {
+        throw new IllegalStateException("Hints are not available right now");
+      }
+      if (guesses.length == 0) {
+        FeedbackMatrix.Ranking best = openingRanking();
+        return view(gameId, best, matrix.size());
+      }
+
+      // Narrow to the words that would have given the same feedback to every guess so far
+      long[] candidates = matrix.all();
+      for (int guess : guesses) {
+        int slot = slotByWord.getOrDefault(guess, -1);
+        candidates = matrix.consistent(candidates, guess, slot, Feedback.score(target, guess));
+      }
+      int remaining = 0;
+      for (long bits : candidates) {
+        remaining += Long.bitCount(bits);
+      }
+      return view(gameId, matrix.best(candidates), remaining);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private HintView view(Long gameId, FeedbackMatrix.Ranking best, int remaining) {
+    // No active word fits, e.g. the answer has been deactivated since the game started
+    if (best == null || remaining == 0) {
+      throw new IllegalStateException("No hint available for this game");
+    }
+    return new HintView(gameId, PackedWord.decode(matrix.word(best.slot())), best.bits(), remaining,
+        best.candidate());
+  }
+
+  // Caller holds a lock; every reader computing it concurrently gets the same result
+  private FeedbackMatrix.Ranking openingRanking() {
+    FeedbackMatrix.Ranking best = opening;
+    if (best == null) {
+      best = matrix.best(matrix.all());
+      opening = best;
+    }
+    return best;
+  }
+
+  @Override
+  public void wordChanged(int wordId) {
+    lock.writeLock().lock();
+    try {
+      // Before the first build the pending build picks the change up
+      if (matrix != null) {
+        sync(wordId);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  // Rebuilds coalesce: one queued build covers every rebuild reported before it starts
+  @Override
+  public void rebuilt() {
+    if (buildPending.compareAndSet(false, true)) {
+      builder.execute(this::build);
+    }
+  }
+
+  public Map<String, Object> getStats() {
+    lock.readLock().lock();
+    try {
+      Map<String, Object> stats = new LinkedHashMap<>();
+      stats.put("enabled", matrix != null);
+      stats.put("words", matrix != null ? matrix.size() : 0);
+      stats.put("slots", matrix != null ? matrix.slots() : 0);
+      stats.put("matrixBytes", matrix != null ? matrix.bytes() : 0L);
+      stats.put("maxWords", maxWords);
+      stats.put("lastBuildMs", lastBuildMs);
+      stats.put("builtAt", builtAt);
+      stats.put("hints", hintTimer.count());
+      return stats;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    builder.shutdownNow();
+  }
+
+  private void build() {
+    buildPending.set(false);
+    int[] ids = wordDictionary.activeWordIds();
+    if (ids.length > maxWords) {
+      log.warn("Hints disabled: {} active words exceeds wordle.hints.max-words={}", ids.length, maxWords);
+      lock.writeLock().lock();
+      try {
+        disable();
+      } finally {
+        lock.writeLock().unlock();
+      }
+      return;
+    }
+
+    long started = System.nanoTime();
+    int count = 0;
+    int[] words = new int[ids.length];
+    for (int id : ids) {
+      int packed = wordDictionary.packed(id);
+      // Removed since the ids were read
+      if (packed != PackedWord.INVALID) {
+        ids[count] = id;
+        words[count++] = packed;
+      }
+    }
+    FeedbackMatrix built = FeedbackMatrix.build(Arrays.copyOf(words, count), ForkJoinPool.commonPool());
+
+    lock.writeLock().lock();
+    try {
+      disable();
+      matrix = built;
+      for (int slot = 0; slot < count; slot++) {
+        slotByWordId.put(ids[slot], slot);
+        slotByWord.put(words[slot], slot);
+      }
+      // Catch up with changes the dictionary took while the matrix was being built
+      for (int id : wordDictionary.activeWordIds()) {
+        sync(id);
+      }
+      for (Integer id : List.copyOf(slotByWordId.keySet())) {
+        sync(id);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+
+    lock.readLock().lock();
+    try {
+      if (matrix == built) {
+        openingRanking();
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+    lastBuildMs = (System.nanoTime() - started) / 1_000_000;
+    builtAt = LocalDateTime.now();
+    log.info("Hint matrix built for {} words in {} ms", built.size(), lastBuildMs);
+  }
+
+  // Brings one word's slot in line with the dictionary; caller holds the write lock.
+  // Does nothing once an earlier call has disabled hints.
+  private void sync(int wordId) {
+    if (matrix == null) {
+      return;
+    }
+    int packed = wordDictionary.packed(wordId);
+    Integer slot = slotByWordId.get(wordId);
+    if (slot != null && matrix.word(slot) == packed) {
+      return;
+    }
+    opening = null;
+    if (slot != null) {
+      slotByWordId.remove(wordId);
+      slotByWord.remove(matrix.word(slot));
+      matrix.remove(slot);
+    }
+    if (packed == PackedWord.INVALID) {
+      return;
+    }
+    if (matrix.size() >= maxWords) {
+      log.warn("Hints disabled: dictionary grew past wordle.hints.max-words={}", maxWords);
+      disable();
+      return;
+    }
+    int added = matrix.add(packed);
+    slotByWordId.put(wordId, added);
+    slotByWord.put(packed, added);
+  }
+
+  private void disable() {
+    matrix = null;
+    opening = null;
+    slotByWordId.clear();
+    slotByWord.clear();
+  }
+}
@@ -0,0 +1,308 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.LeaderboardEntry;
+import com.example.wordle.dto.LeaderboardView;
+import com.example.wordle.dto.PlayerTotals;
+import com.example.wordle.engine.ScoreBoard;
+import com.example.wordle.model.Game;
+import com.example.wordle.model.User;
+import com.example.wordle.repository.GameRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Daily and all-time leaderboards by wins, win rate and average guesses per win, kept in
+// memory. Each period holds every player's totals and one ScoreBoard per metric; a finished
+// game moves its player on each board in O(log n), and top-K and rank reads never touch
+// the database. The boards are rebuilt from the games table at startup and on demand.
+// Rates are only ranked from wordle.leaderboard.min-games finished games on the all-time
+// boards; the daily boards rank anyone who finished a game today. Admins are not ranked.
+@Service
+public class LeaderboardService {
+
+  private static final Logger log = LoggerFactory.getLogger(LeaderboardService.class);
+
+  public enum Period {
+    DAILY,
+    ALL_TIME;
+
+    // daily or all-time
+    public static Period parse(String value) {
+      return LeaderboardService.parse(Period.class, value);
+    }
+  }
+
+  public enum Metric {
+    // Games won
+    WINS(true, 1),
+    // Percent of finished games won, in hundredths of a percent
+    WIN_RATE(true, 100),
+    // Guesses per won game, in thousandths
+    AVG_GUESSES(false, 1000);
+
+    private final boolean higherIsBetter;
+    private final int scale;
+
+    Metric(boolean higherIsBetter, int scale) {
+      this.higherIsBetter = higherIsBetter;
+      this.scale = scale;
+    }
+
+    int score(Totals totals, long minGames) {
+      if (totals == null) {
+        return ScoreBoard.NONE;
+      }
+      return switch (this) {
+        case WINS -> (int) totals.wins;
+        case WIN_RATE -> totals.games < minGames ? ScoreBoard.NONE
+            : (int) Math.round(totals.wins * 10_000.0 / totals.games);
+        case AVG_GUESSES -> totals.games < minGames || totals.wins == 0 ? ScoreBoard.NONE
+            : (int) Math.round(totals.guessesToWin * 1000.0 / totals.wins);
+      };
+    }
+
+    // wins, win-rate or avg-guesses
+    public static Metric parse(String value) {
+      return LeaderboardService.parse(Metric.class, value);
+    }
+
+    double value(int score) {
+      return (double) score / scale;
+    }
+  }
+
+  private final GameRepository gameRepository;
+  private final GuessWriteBehind guessWriteBehind;
+  private final long minGames;
+  private final int maxSize;
+
+  // Finished games are applied under the read lock; a rebuild swaps the boards under the write lock
+  private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+  private final ReentrantLock rebuilding = new ReentrantLock();
+  private final ReentrantLock rolloverLock = new ReentrantLock();
+  // While a rebuild reads the database: games finished at or after this time, which the
+  // rebuild does not see, are queued and replayed onto its boards
+  private volatile LocalDateTime rebuildCutoff;
+  private final Queue<Game> finishedDuringRebuild = new ConcurrentLinkedQueue<>();
+
+  private volatile Boards allTime;
+  private volatile Boards today;
+
+  private volatile LocalDateTime rebuiltAt;
+  private volatile long lastRebuildMs;
+
+  public LeaderboardService(GameRepository gameRepository,
+      GuessWriteBehind guessWriteBehind,
+      @Value("${wordle.leaderboard.min-games:10}") long minGames,
+      @Value("${wordle.leaderboard.max-size:100}") int maxSize) {
+    this.gameRepository = gameRepository;
+    this.guessWriteBehind = guessWriteBehind;
+    this.minGames = minGames;
+    this.maxSize = maxSize;
+    this.allTime = new Boards(null, minGames);
+    this.today = new Boards(LocalDate.now(), 1);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadBoards() {
+    rebuild();
+  }
+
+  // Re-reads both periods from the games table
+  public Map<String, Object> rebuild() {
+    if (!rebuilding.tryLock()) {
+      throw new IllegalStateException("Leaderboards are already being rebuilt");
+    }
+    try {
+      long started = System.nanoTime();
+      LocalDateTime cutoff = LocalDateTime.now();
+      rebuildCutoff = cutoff;
+      // Games finished before the cutoff are then all in the table
+      guessWriteBehind.flush();
+
+      Boards nextAllTime = new Boards(null, minGames);
+      gameRepository.findPlayerTotalsFinishedBefore(cutoff).forEach(nextAllTime::load);
+      Boards nextToday = new Boards(cutoff.toLocalDate(), 1);
+      gameRepository.findPlayerTotalsFinishedBetween(cutoff.toLocalDate().atStartOfDay(), cutoff)
+          .forEach(nextToday::load);
+
+      swapLock.writeLock().lock();
+      try {
+        Game game;
+        while ((game = finishedDuringRebuild.poll()) != null) {
+          nextAllTime.finished(game);
+          if (game.getFinishedAt().toLocalDate().equals(nextToday.date)) {
+            nextToday.finished(game);
+          }
+        }
+        allTime = nextAllTime;
+        today = nextToday;
+        rebuildCutoff = null;
+      } finally {
+        swapLock.writeLock().unlock();
+      }
+
+      lastRebuildMs = (System.nanoTime() - started) / 1_000_000;
+      rebuiltAt = LocalDateTime.now();
+      log.info("Leaderboards rebuilt: {} players all-time, {} today in {} ms",
+          nextAllTime.totals.size(), nextToday.totals.size(), lastRebuildMs);
+      return getStats();
+    } finally {
+      rebuilding.unlock();
+    }
+  }
+
+  // Called from makeGuess once a game is finished, after its write is queued
+  public void gameFinished(Game game) {
+    if (game.getPlayer().getRole() != User.Role.PLAYER) {
+      return;
+    }
+    swapLock.readLock().lock();
+    try {
+      LocalDateTime cutoff = rebuildCutoff;
+      if (cutoff != null && !game.getFinishedAt().isBefore(cutoff)) {
+        finishedDuringRebuild.add(game);
+      }
+      allTime.finished(game);
+      Boards day = boardsFor(game.getFinishedAt().toLocalDate());
+      if (day != null) {
+        day.finished(game);
+      }
+    } finally {
+      swapLock.readLock().unlock();
+    }
+  }
+
+  // The top of a board and, when playerId is given, that player's own row
+  public LeaderboardView leaderboard(Period period, Metric metric, int limit, Long playerId) {
+    Boards boards = period == Period.ALL_TIME ? allTime : boardsFor(LocalDate.now());
+    ScoreBoard board = boards.boards.get(metric);
+    int size = Math.max(1, Math.min(limit, maxSize));
+
+    List<LeaderboardEntry> top = new ArrayList<>(size);
+    for (ScoreBoard.Ranked ranked : board.top(size)) {
+      Totals totals = boards.totals.get(ranked.playerId());
+      if (totals != null) {
+        top.add(entry(ranked.rank(), ranked.playerId(), totals, metric, ranked.score()));
+      }
+    }
+    LeaderboardEntry player = null;
+    if (playerId != null) {
+      Totals totals = boards.totals.get(playerId);
+      int score = metric.score(totals, boards.minGames);
+      if (score != ScoreBoard.NONE) {
+        player = entry(board.rank(score), playerId, totals, metric, score);
+      }
+    }
+    return new LeaderboardView(period.name(), metric.name(), boards.date, board.size(), top, player);
+  }
+
+  public Map<String, Object> getStats() {
+    Boards day = today;
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("allTimePlayers", allTime.totals.size());
+    stats.put("date", day.date);
+    stats.put("todayPlayers", day.totals.size());
+    stats.put("minGames", minGames);
+    stats.put("rebuiltAt", rebuiltAt);
+    stats.put("lastRebuildMs", lastRebuildMs);
+    return stats;
+  }
+
+  private static <E extends Enum<E>> E parse(Class<E> type, String value) {
+    List<String> names = new ArrayList<>();
+    for (E constant : type.getEnumConstants()) {
+      String name = constant.name().toLowerCase().replace('_', '-');
+      if (name.equalsIgnoreCase(value)) {
+        return constant;
+      }
+      names.add(name);
+    }
+    throw new IllegalArgumentException(type.getSimpleName() + " must be one of " + String.join(", ", names));
+  }
+
+  private static LeaderboardEntry entry(long rank, long playerId, Totals totals, Metric metric, int score) {
+    return new LeaderboardEntry(rank, playerId, totals.username, metric.value(score), totals.games, totals.wins);
+  }
+
+  // Today's boards, rolling over if date is newer; null if date has already passed
+  private Boards boardsFor(LocalDate date) {
+    Boards day = today;
+    if (day.date.equals(date)) {
+      return day;
+    }
+    if (date.isBefore(day.date)) {
+      return null;
+    }
+
+    rolloverLock.lock();
+    try {
+      day = today;
+      if (date.isAfter(day.date)) {
+        today = new Boards(date, 1);
+      }
+      return today.date.equals(date) ? today : null;
+    } finally {
+      rolloverLock.unlock();
+    }
+  }
+
+  // One player's finished games in a period; replaced, never changed
+  private record Totals(String username, long games, long wins, long guessesToWin) {
+  }
+
+  // Totals and boards for one period; date is null for all time
+  private static final class Boards {
+    private final LocalDate date;
+    private final long minGames;
+    private final Map<Long, Totals> totals = new ConcurrentHashMap<>();
+    private final Map<Metric, ScoreBoard> boards = new EnumMap<>(Metric.class);
+
+    Boards(LocalDate date, long minGames) {
+      this.date = date;
+      this.minGames = minGames;
+      for (Metric metric : Metric.values()) {
+        boards.put(metric, new ScoreBoard(metric.higherIsBetter));
+      }
+    }
+
+    void load(PlayerTotals row) {
+      add(row.playerId(), row.username(), row.games(), row.wins(), row.guessesToWin());
+    }
+
+    void finished(Game game) {
+      boolean won = Boolean.TRUE.equals(game.getWon());
+      add(game.getPlayer().getId(), game.getPlayer().getUsername(), 1, won ? 1 : 0,
+          won ? game.getGuessesMade() : 0);
+    }
+
+    // The player's totals and board positions change together under the map's per-key lock
+    private void add(long playerId, String username, long games, long wins, long guesses) {
+      totals.compute(playerId, (id, old) -> {
+        Totals next = old == null ? new Totals(username, games, wins, guesses)
+            : new Totals(old.username, old.games + games, old.wins + wins, old.guessesToWin + guesses);
+        for (Map.Entry<Metric, ScoreBoard> board : boards.entrySet()) {
+          Metric metric = board.getKey();
+          board.getValue().move(id, metric.score(old, minGames), metric.score(next, minGames));
+        }
+        return next;
+      });
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.example.wordle.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Runs BCrypt on a small dedicated pool so login storms cannot occupy every request thread
+// with CPU-bound hashing. The queue is bounded; when it is full the call fails at once with
+// RejectedExecutionException, which the auth endpoints turn into a 503.
+@Component
+public class PasswordHasher {
+
+  // Outcome of a login check; rehash is the password re-encoded at the current cost, if needed
+  public record Verification(boolean matches, String rehash) {
+  }
+
+  private final PasswordEncoder passwordEncoder;
+  private final ThreadPoolExecutor executor;
+
+  private final AtomicLong completed = new AtomicLong();
+  private final AtomicLong rejected = new AtomicLong();
+  private final AtomicLong rehashed = new AtomicLong();
+  private final AtomicLong totalWaitNanos = new AtomicLong();
+  private final AtomicLong maxWaitNanos = new AtomicLong();
+  private final AtomicLong totalHashNanos = new AtomicLong();
+  private final AtomicLong maxHashNanos = new AtomicLong();
+
+  public PasswordHasher(PasswordEncoder passwordEncoder,
+      @Value("${wordle.password.threads:0}") int threads,
+      @Value("${wordle.password.queue-capacity:64}") int queueCapacity) {
+    this.passwordEncoder = passwordEncoder;
+    // 0 means half the cores, leaving the rest for game traffic
+    int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    AtomicInteger threadCount = new AtomicInteger();
+    this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+          Thread thread = new Thread(runnable, "password-hasher-" + threadCount.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+  }
+
+  public String encode(String rawPassword) {
+    return run(() -> passwordEncoder.encode(rawPassword));
+  }
+
+  // Checks the password and, when the stored hash uses an older cost factor, re-encodes it
+  // in the same task so an upgrade does not queue twice
+  public Verification verify(String rawPassword, String passwordHash) {
+    return run(() -> {
+      if (!passwordEncoder.matches(rawPassword, passwordHash)) {
+        return new Verification(false, null);
+      }
+      if (!passwordEncoder.upgradeEncoding(passwordHash)) {
+        return new Verification(true, null);
+      }
+      rehashed.incrementAndGet();
+      return new Verification(true, passwordEncoder.encode(rawPassword));
+    });
+  }
+
+  public Map<String, Object> getStats() {
+    long count = completed.get();
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("threads", executor.getMaximumPoolSize());
+    stats.put("active", executor.getActiveCount());
+    stats.put("queued", executor.getQueue().size());
+    stats.put("queueCapacity", executor.getQueue().size() + executor.getQueue().remainingCapacity());
+    stats.put("completed", count);
+    stats.put("rejected", rejected.get());
+    stats.put("rehashed", rehashed.get());
+    stats.put("avgWaitMs", count == 0 ? 0.0 : totalWaitNanos.get() / 1_000_000.0 / count);
+    stats.put("maxWaitMs", maxWaitNanos.get() / 1_000_000.0);
+    stats.put("avgHashMs", count == 0 ? 0.0 : totalHashNanos.get() / 1_000_000.0 / count);
+    stats.put("maxHashMs", maxHashNanos.get() / 1_000_000.0);
+    return stats;
+  }
+
+  public int queued() {
+    return executor.getQueue().size();
+  }
+
+  public long rejected() {
+    return rejected.get();
+  }
+
+  public long completed() {
+    return completed.get();
+  }
+
+  public double totalWaitNanos() {
+    return totalWaitNanos.get();
+  }
+
+  public double totalHashNanos() {
+    return totalHashNanos.get();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private <T> T run(Callable<T> hashing) {
+    long submitted = System.nanoTime();
+    Future<T> result;
+    try {
+      result = executor.submit(() -> {
+        long started = System.nanoTime();
+        record(totalWaitNanos, maxWaitNanos, started - submitted);
+        try {
+          return hashing.call();
+        } finally {
+          record(totalHashNanos, maxHashNanos, System.nanoTime() - started);
+          completed.incrementAndGet();
+        }
+      });
+    } catch (RejectedExecutionException e) {
+      rejected.incrementAndGet();
+      throw new RejectedExecutionException("Too many concurrent logins, try again shortly", e);
+    }
+
+    try {
+      return result.get();
+    } catch (InterruptedException e) {
+      result.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while hashing password", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private static void record(AtomicLong total, AtomicLong max, long nanos) {
+    total.addAndGet(nanos);
+    max.accumulateAndGet(nanos, Math::max);
+  }
+}
@@ -0,0 +1,279 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.GameResult;
+import com.example.wordle.dto.PlayerStatsView;
+import com.example.wordle.model.Game;
+import com.example.wordle.model.PlayerStats;
+import com.example.wordle.repository.GameRepository;
+import com.example.wordle.repository.PlayerStatsRepository;
+import com.example.wordle.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Per-player stats card: games, wins, current and best streak, and wins by guesses used.
+// Each finished game updates its player's record in memory; records are kept in a bounded
+// LRU and written to player_stats, one row per player, on every flush interval and at
+// shutdown. Serving a card is a cache hit or one primary-key read. A player without a row
+// is backfilled from their finished games the first time they are needed; like a
+// leaderboard rebuild, the backfill reads games finished before a cutoff and leaves later
+// ones to gameFinished. A player's load and updates run under their stripe lock.
+@Service
+public class PlayerStatsService {
+
+  private static final Logger log = LoggerFactory.getLogger(PlayerStatsService.class);
+
+  private static final int BUCKETS = 6;
+  private static final String UPSERT_STATS =
+      "INSERT INTO player_stats (user_id, games_played, games_won, current_streak, max_streak, " +
+      "won_in1, won_in2, won_in3, won_in4, won_in5, won_in6, last_game_id, last_finished_at, updated_at) " +
+      "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+      "ON DUPLICATE KEY UPDATE games_played = VALUES(games_played), games_won = VALUES(games_won), " +
+      "current_streak = VALUES(current_streak), max_streak = VALUES(max_streak), " +
+      "won_in1 = VALUES(won_in1), won_in2 = VALUES(won_in2), won_in3 = VALUES(won_in3), " +
+      "won_in4 = VALUES(won_in4), won_in5 = VALUES(won_in5), won_in6 = VALUES(won_in6), " +
+      "last_game_id = VALUES(last_game_id), last_finished_at = VALUES(last_finished_at), " +
+      "updated_at = VALUES(updated_at)";
+  private static final int UPSERT_BATCH = 500;
+  private static final int LOCK_STRIPES = 64;
+
+  private final PlayerStatsRepository playerStatsRepository;
+  private final GameRepository gameRepository;
+  private final UserRepository userRepository;
+  private final GuessWriteBehind guessWriteBehind;
+  private final JdbcTemplate jdbcTemplate;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final ReentrantLock[] stripes = new ReentrantLock[LOCK_STRIPES];
+  private final LinkedHashMap<Long, Stats> players;
+  // Records changed since the last flush; looked up before the cache so eviction loses nothing
+  private final Map<Long, Stats> dirty = new ConcurrentHashMap<>();
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong backfills = new AtomicLong();
+  private final AtomicLong flushedRows = new AtomicLong();
+
+  public PlayerStatsService(PlayerStatsRepository playerStatsRepository,
+      GameRepository gameRepository,
+      UserRepository userRepository,
+      GuessWriteBehind guessWriteBehind,
+      JdbcTemplate jdbcTemplate,
+      @Value("${wordle.player-stats.max-players:10000}") int maxPlayers) {
+    this.playerStatsRepository = playerStatsRepository;
+    this.gameRepository = gameRepository;
+    this.userRepository = userRepository;
+    this.guessWriteBehind = guessWriteBehind;
+    this.jdbcTemplate = jdbcTemplate;
+    for (int i = 0; i < LOCK_STRIPES; i++) {
+      stripes[i] = new ReentrantLock();
+    }
+    this.players = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, Stats> eldest) {
+        return size() > maxPlayers;
+      }
+    };
+  }
+
+  public PlayerStatsView getPlayerStats(Long playerId) {
+    ReentrantLock playerLock = lockFor(playerId);
+    playerLock.lock();
+    try {
+      return load(playerId).toView(playerId);
+    } finally {
+      playerLock.unlock();
+    }
+  }
+
+  // Called from makeGuess once a game is finished, after its write is queued
+  public void gameFinished(Game game) {
+    Long playerId = game.getPlayer().getId();
+    ReentrantLock playerLock = lockFor(playerId);
+    playerLock.lock();
+    try {
+      Stats stats = load(playerId);
+      // Counted already: the same game again, or one the player's backfill read
+      if (game.getId().equals(stats.lastGameId) || stats.backfilled(game.getFinishedAt())) {
+        return;
+      }
+      Stats next = stats.plus(game.getId(), Boolean.TRUE.equals(game.getWon()), game.getGuessesMade(),
+          game.getFinishedAt());
+      lock.lock();
+      try {
+        players.put(playerId, next);
+        dirty.put(playerId, next);
+      } finally {
+        lock.unlock();
+      }
+    } finally {
+      playerLock.unlock();
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${wordle.player-stats.flush-interval-ms:5000}")
+  public void flush() {
+    if (dirty.isEmpty()) {
+      return;
+    }
+    flushLock.lock();
+    try {
+      List<Map.Entry<Long, Stats>> rows = new ArrayList<>(dirty.entrySet());
+      Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+      jdbcTemplate.batchUpdate(UPSERT_STATS, rows, UPSERT_BATCH, (ps, row) -> {
+        Stats stats = row.getValue();
+        ps.setLong(1, row.getKey());
+        ps.setLong(2, stats.played);
+        ps.setLong(3, stats.won);
+        ps.setInt(4, stats.currentStreak);
+        ps.setInt(5, stats.maxStreak);
+        for (int i = 0; i < BUCKETS; i++) {
+          ps.setLong(6 + i, stats.wonIn[i]);
+        }
+        ps.setObject(12, stats.lastGameId);
+        ps.setObject(13, stats.lastFinishedAt == null ? null : Timestamp.valueOf(stats.lastFinishedAt));
+        ps.setTimestamp(14, now);
+      });
+      // Keep records that changed again while they were being written
+      for (Map.Entry<Long, Stats> row : rows) {
+        dirty.remove(row.getKey(), row.getValue());
+      }
+      flushedRows.addAndGet(rows.size());
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    try {
+      flush();
+    } catch (RuntimeException e) {
+      log.warn("Could not write {} player stats rows at shutdown", dirty.size(), e);
+    }
+  }
+
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    lock.lock();
+    try {
+      stats.put("cachedPlayers", players.size());
+    } finally {
+      lock.unlock();
+    }
+    stats.put("hits", hits.get());
+    stats.put("misses", misses.get());
+    stats.put("backfills", backfills.get());
+    stats.put("unflushed", dirty.size());
+    stats.put("flushedRows", flushedRows.get());
+    return stats;
+  }
+
+  // Callers hold the player's stripe lock
+  private Stats load(Long playerId) {
+    Stats stats = dirty.get(playerId);
+    if (stats == null) {
+      lock.lock();
+      try {
+        stats = players.get(playerId);
+      } finally {
+        lock.unlock();
+      }
+    }
+    if (stats != null) {
+      hits.incrementAndGet();
+      return stats;
+    }
+
+    misses.incrementAndGet();
+    PlayerStats row = playerStatsRepository.findById(playerId).orElse(null);
+    Stats loaded = row != null ? Stats.of(row) : backfill(playerId);
+    lock.lock();
+    try {
+      players.put(playerId, loaded);
+      if (row == null) {
+        // Written by the next flush
+        dirty.put(playerId, loaded);
+      }
+      return loaded;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Replays the player's finished games
+  private Stats backfill(Long playerId) {
+    if (!userRepository.existsById(playerId)) {
+      throw new IllegalArgumentException("User not found");
+    }
+    backfills.incrementAndGet();
+    LocalDateTime cutoff = LocalDateTime.now();
+    // Games finished before the cutoff are then all in the table
+    guessWriteBehind.flush();
+    Stats stats = Stats.EMPTY.withCutoff(cutoff);
+    for (GameResult game : gameRepository.findFinishedResultsByPlayerIdBefore(playerId, cutoff)) {
+      stats = stats.plus(game.id(), Boolean.TRUE.equals(game.won()), game.guessesMade(), game.finishedAt());
+    }
+    return stats;
+  }
+
+  private ReentrantLock lockFor(Long playerId) {
+    int hash = Long.hashCode(playerId) * 0x9E3779B9;
+    return stripes[Math.floorMod(hash ^ (hash >>> 16), LOCK_STRIPES)];
+  }
+
+  // One player's record; replaced on every change, never modified. backfilledBefore is the
+  // cutoff of the backfill that built it, if any; rows only hold games counted by gameFinished.
+  private record Stats(long played, long won, int currentStreak, int maxStreak, long[] wonIn,
+      Long lastGameId, LocalDateTime lastFinishedAt, LocalDateTime backfilledBefore) {
+
+    static final Stats EMPTY = new Stats(0, 0, 0, 0, new long[BUCKETS], null, null, null);
+
+    static Stats of(PlayerStats row) {
+      long[] wonIn = {row.getWonIn1(), row.getWonIn2(), row.getWonIn3(), row.getWonIn4(),
+          row.getWonIn5(), row.getWonIn6()};
+      return new Stats(row.getGamesPlayed(), row.getGamesWon(), row.getCurrentStreak(), row.getMaxStreak(),
+          wonIn, row.getLastGameId(), row.getLastFinishedAt(), null);
+    }
+
+    Stats withCutoff(LocalDateTime cutoff) {
+      return new Stats(played, won, currentStreak, maxStreak, wonIn, lastGameId, lastFinishedAt, cutoff);
+    }
+
+    // Whether a game finished at this time was already read by the backfill
+    boolean backfilled(LocalDateTime finishedAt) {
+      return backfilledBefore != null && finishedAt != null && finishedAt.isBefore(backfilledBefore);
+    }
+
+    Stats plus(Long gameId, boolean win, int guesses, LocalDateTime finishedAt) {
+      if (!win) {
+        return new Stats(played + 1, won, 0, maxStreak, wonIn, gameId, finishedAt, backfilledBefore);
+      }
+      long[] buckets = wonIn.clone();
+      buckets[Math.max(1, Math.min(guesses, BUCKETS)) - 1]++;
+      int streak = currentStreak + 1;
+      return new Stats(played + 1, won + 1, streak, Math.max(maxStreak, streak), buckets, gameId, finishedAt,
+          backfilledBefore);
+    }
+
+    PlayerStatsView toView(Long playerId) {
+      return new PlayerStatsView(playerId, played, won, played == 0 ? 0.0 : (double) won / played,
+          currentStreak, maxStreak, Arrays.stream(wonIn).boxed().toList(), lastFinishedAt);
+    }
+  }
+}
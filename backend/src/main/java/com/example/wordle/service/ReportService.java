@@ -1,10 +1,17 @@
 package com.example.wordle.service;
 
-import com.example.wordle.model.Game;
+import com.example.wordle.dto.CursorPage;
+import com.example.wordle.dto.PlayerDayReport;
+import com.example.wordle.dto.PlayerSummary;
+import com.example.wordle.model.DailyStats;
 import com.example.wordle.model.User;
 import com.example.wordle.repository.GameRepository;
 import com.example.wordle.repository.UserRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -12,22 +19,41 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 public class ReportService {
 
+  // Lower bound for open-ended ranges; earlier than any game
+  private static final LocalDateTime EARLIEST = LocalDate.of(2000, 1, 1).atStartOfDay();
+
   private final GameRepository gameRepository;
   private final UserRepository userRepository;
+  private final DailyRollupService dailyRollupService;
+  private final int maxPageSize;
+  private final Timer dailyTimer;
+  private final Timer playerTimer;
+  private final Timer playersTimer;
 
   public ReportService(GameRepository gameRepository,
-      UserRepository userRepository) {
+      UserRepository userRepository,
+      DailyRollupService dailyRollupService,
+      MeterRegistry meterRegistry,
+      @Value("${wordle.admin.max-page-size:500}") int maxPageSize) {
     this.gameRepository = gameRepository;
     this.userRepository = userRepository;
+    this.dailyRollupService = dailyRollupService;
+    this.maxPageSize = maxPageSize;
+    this.dailyTimer = reportTimer(meterRegistry, "daily");
+    this.playerTimer = reportTimer(meterRegistry, "player");
+    this.playersTimer = reportTimer(meterRegistry, "players");
   }
 
   // Daily Report
   public Map<String, Object> getDailyReport(String date) {
+    return dailyTimer.record(() -> dailyReport(date));
+  }
+
+  private Map<String, Object> dailyReport(String date) {
     LocalDate reportDate;
     try {
       // Parse ISO-8601 timestamp to LocalDateTime first
@@ -38,60 +64,46 @@ public class ReportService {
       reportDate = LocalDate.parse(date, DateTimeFormatter.ISO_DATE);
     }
 
-    LocalDateTime startOfDay = reportDate.atStartOfDay();
-    LocalDateTime endOfDay = reportDate.plusDays(1).atStartOfDay();
-
-    List<Game> gamesToday = gameRepository.findAllByFinishedAtBetween(startOfDay, endOfDay);
-
-    long totalGames = gamesToday.size();
-    long gamesWon = gamesToday.stream().filter(Game::getWon).count();
+    DailyStats stats = dailyRollupService.getDay(reportDate);
 
     Map<String, Object> report = new HashMap<>();
     report.put("date", reportDate);
-    report.put("totalUsers", gameRepository.countDistinctPlayersByDate(reportDate));
-    report.put("totalGames", totalGames);
-    report.put("gamesWon", gamesWon);
+    report.put("totalUsers", stats.getTotalUsers());
+    report.put("totalGames", stats.getTotalGames());
+    report.put("gamesWon", stats.getGamesWon());
 
     return report;
   }
 
-  // Per-player report
-  public List<Map<String, Object>> getPlayerReport(Long userId) {
-    @SuppressWarnings("unused")
-    User user = userRepository.findById(userId)
-        .orElseThrow(() -> new NoSuchElementException("User not found with id: " + userId));
-
-    // Group games by date
-    Map<LocalDate, List<Game>> gamesByDate = gameRepository.findAllByPlayerId(userId).stream()
-        .collect(Collectors.groupingBy(game -> game.getFinishedAt().toLocalDate()));
-
-    List<Map<String, Object>> report = new ArrayList<>();
-
-    for (Map.Entry<LocalDate, List<Game>> entry : gamesByDate.entrySet()) {
-      LocalDate date = entry.getKey();
-      List<Game> gamesOnDate = entry.getValue();
-
-      Map<String, Object> dailyStats = new HashMap<>();
-      dailyStats.put("date", date);
-      dailyStats.put("attempts", gamesOnDate.size());
-      dailyStats.put("wins", gamesOnDate.stream().filter(Game::getWon).count());
+  // Per-player report, optionally limited to [from, to] by finish date
+  public List<PlayerDayReport> getPlayerReport(Long userId, LocalDate from, LocalDate to) {
+    return playerTimer.record(() -> playerReport(userId, from, to));
+  }
 
-      report.add(dailyStats);
+  private List<PlayerDayReport> playerReport(Long userId, LocalDate from, LocalDate to) {
+    if (!userRepository.existsById(userId)) {
+      throw new NoSuchElementException("User not found with id: " + userId);
     }
 
-    return report;
+    LocalDateTime start = from != null ? from.atStartOfDay() : EARLIEST;
+    LocalDateTime end = (to != null ? to : LocalDate.now()).plusDays(1).atStartOfDay();
+    return gameRepository.findDailyReportByPlayer(userId, start, end);
+  }
+
+  // Users with PLAYER role, keyset-paginated by id
+  public CursorPage<PlayerSummary> getPlayers(String cursor, int limit) {
+    Long key = CursorPage.longKey(cursor);
+    return playersTimer.record(() -> {
+      int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+      List<PlayerSummary> rows = userRepository.findPageByRole(User.Role.PLAYER, key, Limit.of(pageSize + 1));
+      return CursorPage.of(rows, pageSize, PlayerSummary::id);
+    });
   }
 
-  // Get all users with PLAYER role
-  public List<Map<String, Object>> getAllPlayers() {
-    return userRepository.findAllByRole(User.Role.PLAYER).stream()
-        .map(user -> {
-          Map<String, Object> userMap = new HashMap<>();
-          userMap.put("id", user.getId());
-          userMap.put("username", user.getUsername());
-          userMap.put("createdAt", user.getCreatedAt());
-          return userMap;
-        })
-        .collect(Collectors.toList());
+  private static Timer reportTimer(MeterRegistry registry, String report) {
+    return Timer.builder("wordle.report")
+        .tag("report", report)
+        .publishPercentileHistogram()
+        .register(registry);
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package com.example.wordle.service;
+
+import com.example.wordle.repository.GameRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Per-player bitsets of solved word ids, loaded lazily from the games table and
+// kept in a bounded LRU. Evicted players are simply reloaded on their next game.
+// Wins are recorded as soon as they are queued for writing, also for players not yet
+// loaded; such partial entries are never evicted, and a load unions its rows with their
+// bits, so a win the games table does not show yet is never dropped.
+@Component
+public class SolvedWordIndex {
+
+  private final GameRepository gameRepository;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final LinkedHashMap<Long, Entry> players;
+
+  public SolvedWordIndex(GameRepository gameRepository,
+      @Value("${wordle.solved-words.max-players:10000}") int maxPlayers) {
+    this.gameRepository = gameRepository;
+    this.players = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+        if (size() <= maxPlayers) {
+          return false;
+        }
+        // Evict the least recently used loaded player; partial entries stay until loaded
+        Iterator<Entry> entries = values().iterator();
+        while (entries.hasNext()) {
+          if (entries.next().loaded()) {
+            entries.remove();
+            break;
+          }
+        }
+        return false;
+      }
+    };
+  }
+
+  // Solved word ids as a bitset; the returned array must not be modified
+  public long[] solvedWords(Long playerId) {
+    Entry entry = cached(playerId);
+    if (entry != null && entry.loaded()) {
+      return entry.bits();
+    }
+
+    // Load outside the lock; a concurrent load of the same player is harmless
+    long[] loaded = new long[0];
+    for (Integer wordId : gameRepository.findWonWordIdsByPlayerId(playerId)) {
+      int index = wordId >>> 6;
+      if (index >= loaded.length) {
+        loaded = Arrays.copyOf(loaded, Math.max(index + 1, loaded.length * 2));
+      }
+      loaded[index] |= 1L << wordId;
+    }
+
+    lock.lock();
+    try {
+      return players.merge(playerId, new Entry(loaded, true),
+          (current, load) -> new Entry(union(current.bits(), load.bits()), true)).bits();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Called once a winning game's write has been queued, possibly before it is committed
+  public void markSolved(Long playerId, Integer wordId) {
+    lock.lock();
+    try {
+      // A player not loaded yet gets a partial entry that their next load unions in
+      players.merge(playerId, new Entry(withBit(new long[0], wordId), false),
+          (current, win) -> new Entry(withBit(current.bits(), wordId), current.loaded()));
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public int cachedPlayers() {
+    lock.lock();
+    try {
+      return players.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private Entry cached(Long playerId) {
+    lock.lock();
+    try {
+      return players.get(playerId);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // Copy-on-write so callers can keep reading the array they were given
+  private static long[] withBit(long[] bits, int wordId) {
+    int index = wordId >>> 6;
+    long[] copy = Arrays.copyOf(bits, Math.max(bits.length, index + 1));
+    copy[index] |= 1L << wordId;
+    return copy;
+  }
+
+  // Bits that are all of the player's wins once loaded, or only wins marked before the load
+  private record Entry(long[] bits, boolean loaded) {
+  }
+
+  private static long[] union(long[] a, long[] b) {
+    long[] longer = a.length >= b.length ? a : b;
+    long[] shorter = longer == a ? b : a;
+    long[] result = longer.clone();
+    for (int i = 0; i < shorter.length; i++) {
+      result[i] |= shorter[i];
+    }
+    return result;
+  }
+}
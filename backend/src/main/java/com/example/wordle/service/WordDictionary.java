@@ -0,0 +1,272 @@
+package com.example.wordle.service;
+
+import com.example.wordle.engine.LetterIndex;
+import com.example.wordle.engine.PackedWord;
+import com.example.wordle.model.Word;
+import com.example.wordle.repository.WordRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
+
+// In-process copy of the active words, indexed by word id.
+// Readers use an immutable snapshot without locking; changes made through WordService
+// are applied copy-on-write once their transaction commits. Changes applied while a
+// rebuild reads the words table are replayed onto the rebuilt snapshot, since the read
+// may have missed them.
+@Component
+public class WordDictionary {
+
+  // Told about changes after they are visible to readers; may run on any thread, and
+  // calls for different words can arrive out of order, so listeners re-read the word
+  public interface Listener {
+    void wordChanged(int wordId);
+
+    void rebuilt();
+  }
+
+  private final WordRepository wordRepository;
+  private final ReentrantLock writeLock = new ReentrantLock();
+  private final ReentrantLock rebuildLock = new ReentrantLock();
+  // Changes applied since the running rebuild started reading, or null; guarded by writeLock
+  private List<Edit> editsDuringRebuild;
+  private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+  private volatile Snapshot snapshot = new Snapshot(new int[0], new long[0], 0, 0L);
+  // Built from the snapshot on first use after each change
+  private volatile LetterIndex letterIndex;
+  private volatile LocalDateTime rebuiltAt;
+  private volatile LocalDateTime updatedAt;
+
+  public WordDictionary(WordRepository wordRepository) {
+    this.wordRepository = wordRepository;
+  }
+
+  // Runs after the CommandLineRunners, so seeded words are included
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuild() {
+    rebuildLock.lock();
+    try {
+      recordEdits(new ArrayList<>());
+      install(wordRepository.findByIsActiveTrue());
+    } finally {
+      recordEdits(null);
+      rebuildLock.unlock();
+    }
+    listeners.forEach(Listener::rebuilt);
+  }
+
+  public void addListener(Listener listener) {
+    listeners.add(listener);
+  }
+
+  // Called by WordService after create/update; applied on commit
+  public void wordSaved(Word word) {
+    Integer id = word.getId();
+    int encoded = Boolean.TRUE.equals(word.getIsActive()) ? PackedWord.encode(word.getWord()) : PackedWord.INVALID;
+    TransactionHooks.afterCommit(() -> apply(id, encoded));
+  }
+
+  // Called by WordService after delete; applied on commit
+  public void wordDeleted(Integer id) {
+    TransactionHooks.afterCommit(() -> apply(id, PackedWord.INVALID));
+  }
+
+  public boolean contains(int wordId) {
+    return snapshot.packed(wordId) != PackedWord.INVALID;
+  }
+
+  // Packed form of an active word, or PackedWord.INVALID
+  public int packed(int wordId) {
+    return snapshot.packed(wordId);
+  }
+
+  public int size() {
+    return snapshot.size();
+  }
+
+  // Ids of all active words, ascending
+  public int[] activeWordIds() {
+    Snapshot current = snapshot;
+    long[] active = current.active();
+    int[] ids = new int[current.size()];
+    int n = 0;
+    for (int i = 0; i < active.length; i++) {
+      long bits = active[i];
+      while (bits != 0) {
+        ids[n++] = (i << 6) + Long.numberOfTrailingZeros(bits);
+        bits &= bits - 1;
+      }
+    }
+    return ids;
+  }
+
+  // Letter index over the current words; racing callers may each build it once
+  public LetterIndex letterIndex() {
+    Snapshot current = snapshot;
+    LetterIndex index = letterIndex;
+    if (index == null || index.version() != current.version()) {
+      index = LetterIndex.build(current.packed(), current.version());
+      letterIndex = index;
+    }
+    return index;
+  }
+
+  public long version() {
+    return snapshot.version();
+  }
+
+  // Uniformly random active word id whose bit is not set in excluded, or -1 if none is left
+  public int randomWordId(long[] excluded, Random random) {
+    Snapshot current = snapshot;
+    long[] active = current.active();
+
+    int available = 0;
+    for (int i = 0; i < active.length; i++) {
+      available += Long.bitCount(active[i] & ~word(excluded, i));
+    }
+    if (available == 0) {
+      return -1;
+    }
+
+    // Select the n-th remaining bit
+    int n = random.nextInt(available);
+    for (int i = 0; i < active.length; i++) {
+      long bits = active[i] & ~word(excluded, i);
+      int count = Long.bitCount(bits);
+      if (n < count) {
+        for (int k = 0; k < n; k++) {
+          bits &= bits - 1;
+        }
+        return (i << 6) + Long.numberOfTrailingZeros(bits);
+      }
+      n -= count;
+    }
+    return -1;
+  }
+
+  public Map<String, Object> getStats() {
+    Snapshot current = snapshot;
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("activeWords", current.size());
+    stats.put("maxWordId", current.packed().length - 1);
+    stats.put("version", current.version());
+    stats.put("rebuiltAt", rebuiltAt);
+    stats.put("updatedAt", updatedAt);
+    return stats;
+  }
+
+  // Swaps in a snapshot of words, replaying the changes applied since they were read
+  private void install(List<Word> words) {
+    writeLock.lock();
+    try {
+      int maxId = words.stream().mapToInt(Word::getId).max().orElse(-1);
+      int[] packed = new int[maxId + 1];
+      Arrays.fill(packed, PackedWord.INVALID);
+      long[] active = new long[bitsetLength(maxId + 1)];
+      int size = 0;
+      for (Word word : words) {
+        int encoded = PackedWord.encode(word.getWord());
+        if (encoded != PackedWord.INVALID) {
+          packed[word.getId()] = encoded;
+          active[word.getId() >>> 6] |= 1L << word.getId();
+          size++;
+        }
+      }
+      Snapshot rebuilt = new Snapshot(packed, active, size, snapshot.version() + 1);
+      for (Edit edit : editsDuringRebuild) {
+        rebuilt = withWord(rebuilt, edit.id(), edit.encoded());
+      }
+      snapshot = rebuilt;
+      rebuiltAt = LocalDateTime.now();
+      updatedAt = rebuiltAt;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  private void recordEdits(List<Edit> edits) {
+    writeLock.lock();
+    try {
+      editsDuringRebuild = edits;
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  private void apply(Integer id, int encoded) {
+    if (id == null) {
+      return;
+    }
+    writeLock.lock();
+    try {
+      if (editsDuringRebuild != null) {
+        editsDuringRebuild.add(new Edit(id, encoded));
+      }
+      Snapshot current = snapshot;
+      Snapshot next = withWord(current, id, encoded);
+      if (next == current) {
+        return;
+      }
+      snapshot = next;
+      updatedAt = LocalDateTime.now();
+    } finally {
+      writeLock.unlock();
+    }
+    listeners.forEach(listener -> listener.wordChanged(id));
+  }
+
+  // Copy of current with one word set, or current itself if nothing changes
+  private static Snapshot withWord(Snapshot current, int id, int encoded) {
+    boolean present = current.packed(id) != PackedWord.INVALID;
+    if (!present && encoded == PackedWord.INVALID) {
+      return current;
+    }
+
+    int length = Math.max(current.packed().length, id + 1);
+    int[] packed = Arrays.copyOf(current.packed(), length);
+    Arrays.fill(packed, current.packed().length, length, PackedWord.INVALID);
+    long[] active = Arrays.copyOf(current.active(), bitsetLength(length));
+    int size = current.size();
+
+    packed[id] = encoded;
+    if (encoded == PackedWord.INVALID) {
+      active[id >>> 6] &= ~(1L << id);
+      size--;
+    } else {
+      active[id >>> 6] |= 1L << id;
+      if (!present) {
+        size++;
+      }
+    }
+
+    return new Snapshot(packed, active, size, current.version() + 1);
+  }
+
+  private static long word(long[] bits, int index) {
+    return bits != null && index < bits.length ? bits[index] : 0L;
+  }
+
+  private static int bitsetLength(int bits) {
+    return (bits + 63) >>> 6;
+  }
+
+  private record Edit(int id, int encoded) {
+  }
+
+  private record Snapshot(int[] packed, long[] active, int size, long version) {
+
+    int packed(int wordId) {
+      return wordId >= 0 && wordId < packed.length ? packed[wordId] : PackedWord.INVALID;
+    }
+  }
+}
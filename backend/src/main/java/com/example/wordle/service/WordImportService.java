@@ -0,0 +1,235 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.WordImportResult;
+import com.example.wordle.engine.PackedWord;
+import com.example.wordle.model.User;
+import com.example.wordle.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Bulk dictionary import: one word per line, streamed in chunks (or memory-mapped for local
+// files) and parsed as bytes. Lines are trimmed and upper-cased; anything that is not exactly
+// five letters is rejected. Duplicates - within the file or against the table - are caught
+// by a bitset over all 26^5 possible words, and accepted words are inserted in JDBC batches.
+// The whole import runs in one transaction, so a failure leaves the table untouched.
+@Service
+public class WordImportService {
+
+  private static final String INSERT_WORD =
+      "INSERT INTO words (word, is_active, created_at, updated_at, created_by_id) VALUES (?, ?, ?, ?, ?)";
+
+  private static final int READ_CHUNK = 64 * 1024;
+  private static final long MAP_CHUNK = 256L * 1024 * 1024;
+  // Longer lines are rejected without being buffered
+  private static final int MAX_LINE = 64;
+  private static final int MAX_REJECTED_SAMPLES = 20;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final UserRepository userRepository;
+  private final WordDictionary wordDictionary;
+  private final int batchSize;
+
+  public WordImportService(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      UserRepository userRepository,
+      WordDictionary wordDictionary,
+      @Value("${wordle.import.batch-size:1000}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.userRepository = userRepository;
+    this.wordDictionary = wordDictionary;
+    this.batchSize = batchSize;
+  }
+
+  // Local file, mapped into memory in large segments instead of copied through a buffer
+  public WordImportResult importFile(Path path, String username) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      return importWords(username, importer -> {
+        long size = channel.size();
+        for (long position = 0; position < size; position += MAP_CHUNK) {
+          importer.accept(channel.map(FileChannel.MapMode.READ_ONLY, position,
+              Math.min(MAP_CHUNK, size - position)));
+        }
+      });
+    }
+  }
+
+  // Uploads and other streams, read in fixed-size chunks; the stream is not closed
+  public WordImportResult importStream(InputStream in, String username) throws IOException {
+    return importWords(username, importer -> {
+      byte[] chunk = new byte[READ_CHUNK];
+      int read;
+      while ((read = in.read(chunk)) != -1) {
+        importer.accept(ByteBuffer.wrap(chunk, 0, read));
+      }
+    });
+  }
+
+  private WordImportResult importWords(String username, Source source) throws IOException {
+    long started = System.nanoTime();
+    Long createdById = userRepository.findByUsername(username)
+        .map(User::getId)
+        .orElseThrow(() -> new IllegalArgumentException("User not found: " + username));
+
+    Importer importer;
+    try {
+      importer = transactionTemplate.execute(status -> {
+        Importer running = new Importer(createdById, existingWords());
+        try {
+          source.feed(running);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+        running.finish();
+        return running;
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+
+    // Batch inserts do not return ids, so reload the dictionary once instead of per word
+    if (importer.accepted > 0) {
+      wordDictionary.rebuild();
+    }
+    return new WordImportResult(importer.lines, importer.accepted, importer.duplicates,
+        importer.rejected, importer.rejectedSamples, (System.nanoTime() - started) / 1_000_000);
+  }
+
+  // Every word already in the table, active or not, as a bitset over PackedWord.rank
+  private long[] existingWords() {
+    long[] seen = new long[(PackedWord.RANKS + 63) >>> 6];
+    jdbcTemplate.query("SELECT word FROM words", (RowCallbackHandler) rs -> {
+      int packed = PackedWord.encode(rs.getString(1));
+      if (packed != PackedWord.INVALID) {
+        int rank = PackedWord.rank(packed);
+        seen[rank >>> 6] |= 1L << rank;
+      }
+    });
+    return seen;
+  }
+
+  private interface Source {
+    void feed(Importer importer) throws IOException;
+  }
+
+  // Line splitter and batcher; state carries over between chunks
+  private final class Importer {
+
+    private final Long createdById;
+    private final long[] seen;
+    private final byte[] line = new byte[MAX_LINE];
+    private int lineLength;
+    private boolean overlong;
+    private final List<String> batch = new ArrayList<>();
+    private final List<String> rejectedSamples = new ArrayList<>();
+
+    private long lines;
+    private long accepted;
+    private long duplicates;
+    private long rejected;
+
+    Importer(Long createdById, long[] seen) {
+      this.createdById = createdById;
+      this.seen = seen;
+    }
+
+    void accept(ByteBuffer chunk) {
+      while (chunk.hasRemaining()) {
+        byte b = chunk.get();
+        if (b == '\n') {
+          endLine();
+        } else if (lineLength < MAX_LINE) {
+          line[lineLength++] = b;
+        } else {
+          overlong = true;
+        }
+      }
+    }
+
+    void finish() {
+      if (lineLength > 0 || overlong) {
+        endLine();
+      }
+      insertBatch();
+    }
+
+    private void endLine() {
+      lines++;
+      int start = 0;
+      int end = lineLength;
+      // UTF-8 byte order mark on the first line
+      if (lines == 1 && end >= 3 && line[0] == (byte) 0xEF && line[1] == (byte) 0xBB && line[2] == (byte) 0xBF) {
+        start = 3;
+      }
+      while (start < end && (line[start] & 0xFF) <= ' ') {
+        start++;
+      }
+      while (end > start && (line[end - 1] & 0xFF) <= ' ') {
+        end--;
+      }
+      boolean tooLong = overlong;
+      lineLength = 0;
+      overlong = false;
+
+      if (start == end && !tooLong) {
+        return;
+      }
+      int packed = !tooLong && end - start == PackedWord.LENGTH
+          ? PackedWord.encode(new String(line, start, PackedWord.LENGTH, StandardCharsets.ISO_8859_1))
+          : PackedWord.INVALID;
+      if (packed == PackedWord.INVALID) {
+        rejected++;
+        if (rejectedSamples.size() < MAX_REJECTED_SAMPLES) {
+          String text = new String(line, start, end - start, StandardCharsets.UTF_8);
+          rejectedSamples.add("line " + lines + ": " + (tooLong ? text + "..." : text));
+        }
+        return;
+      }
+
+      int rank = PackedWord.rank(packed);
+      if ((seen[rank >>> 6] & (1L << rank)) != 0) {
+        duplicates++;
+        return;
+      }
+      seen[rank >>> 6] |= 1L << rank;
+      batch.add(PackedWord.decode(packed));
+      accepted++;
+      if (batch.size() >= batchSize) {
+        insertBatch();
+      }
+    }
+
+    private void insertBatch() {
+      if (batch.isEmpty()) {
+        return;
+      }
+      Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+      jdbcTemplate.batchUpdate(INSERT_WORD, batch, batch.size(), (ps, word) -> {
+        ps.setString(1, word);
+        ps.setBoolean(2, true);
+        ps.setTimestamp(3, now);
+        ps.setTimestamp(4, now);
+        ps.setLong(5, createdById);
+      });
+      batch.clear();
+    }
+  }
+}
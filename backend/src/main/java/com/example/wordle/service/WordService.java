@@ -1,17 +1,22 @@
 package com.example.wordle.service;
 
 import com.example.wordle.dto.CreateWordDto;
+import com.example.wordle.dto.CursorPage;
+import com.example.wordle.dto.WordSummary;
 import com.example.wordle.model.Word;
 import com.example.wordle.repository.WordRepository;
 import com.example.wordle.model.User;
 import com.example.wordle.repository.UserRepository;
 import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.Authentication;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 @Service
@@ -20,10 +25,16 @@ public class WordService {
 
   private final WordRepository wordRepository;
   private final UserRepository userRepository;
+  private final WordDictionary wordDictionary;
+  private final int maxPageSize;
 
-  public WordService(WordRepository wordRepository, UserRepository userRepository) {
+  public WordService(WordRepository wordRepository, UserRepository userRepository,
+      WordDictionary wordDictionary,
+      @Value("${wordle.admin.max-page-size:500}") int maxPageSize) {
     this.wordRepository = wordRepository;
     this.userRepository = userRepository;
+    this.wordDictionary = wordDictionary;
+    this.maxPageSize = maxPageSize;
   }
 
   // Create
@@ -41,12 +52,36 @@ public class WordService {
         .orElseThrow(() -> new IllegalStateException("User not found"));
 
     word.setCreatedBy(admin); // <-- set the creator
-    return wordRepository.save(word);
+    Word saved = wordRepository.save(word);
+    wordDictionary.wordSaved(saved);
+    return saved;
   }
 
-  // Read
-  public List<Word> getAllWords() {
-    return wordRepository.findAll();
+  // Read: keyset-paginated by id or word, optionally filtered by active flag
+  public CursorPage<WordSummary> listWords(String cursor, int limit, String sort, String direction,
+      Boolean active) {
+    int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+    Limit fetch = Limit.of(pageSize + 1);
+    boolean descending = "desc".equalsIgnoreCase(direction);
+    if (!descending && !"asc".equalsIgnoreCase(direction)) {
+      throw new IllegalArgumentException("Direction must be asc or desc");
+    }
+
+    if ("id".equalsIgnoreCase(sort)) {
+      Integer key = CursorPage.intKey(cursor);
+      List<WordSummary> rows = descending
+          ? wordRepository.findPageByIdDesc(key, active, fetch)
+          : wordRepository.findPageById(key, active, fetch);
+      return CursorPage.of(rows, pageSize, WordSummary::id);
+    }
+    if ("word".equalsIgnoreCase(sort)) {
+      String key = StringUtils.hasText(cursor) ? cursor : null;
+      List<WordSummary> rows = descending
+          ? wordRepository.findPageByWordDesc(key, active, fetch)
+          : wordRepository.findPageByWord(key, active, fetch);
+      return CursorPage.of(rows, pageSize, WordSummary::word);
+    }
+    throw new IllegalArgumentException("Sort must be id or word");
   }
 
   public Word getWordById(Long id) {
@@ -67,13 +102,26 @@ public class WordService {
       word.setIsActive(dto.getActive());
     }
 
-    return wordRepository.save(word);
+    Word saved = wordRepository.save(word);
+    wordDictionary.wordSaved(saved);
+    return saved;
   }
 
   // Delete
   public void deleteWord(Long id) {
     Word word = getWordById(id);
     wordRepository.delete(word);
+    wordDictionary.wordDeleted(word.getId());
+  }
+
+  // Active-word dictionary
+  public Map<String, Object> getDictionaryStats() {
+    return wordDictionary.getStats();
+  }
+
+  public Map<String, Object> rebuildDictionary() {
+    wordDictionary.rebuild();
+    return wordDictionary.getStats();
   }
 
   // Player-specific
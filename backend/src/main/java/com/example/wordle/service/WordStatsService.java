@@ -0,0 +1,292 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.WordStatsView;
+import com.example.wordle.repository.WordStatsRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Per-word difficulty over every game played: win rate, wins by guesses used, mean guesses
+// and abandonment. Runs nightly and on demand from the admin API.
+// The games id range is cut into chunks that a dedicated fork/join pool scans in parallel,
+// each through its own forward-only cursor; chunk tallies are merged as tasks join, and
+// word_stats is replaced in one transaction so readers never see a partial run.
+@Service
+public class WordStatsService {
+
+  private static final Logger log = LoggerFactory.getLogger(WordStatsService.class);
+
+  private static final String SCAN_GAMES =
+      "SELECT word_id, won, finished, guesses_made, started_at FROM games WHERE id >= ? AND id < ?";
+  private static final String INSERT_STATS =
+      "INSERT INTO word_stats (word_id, games_played, games_won, games_lost, games_abandoned, " +
+      "won_in1, won_in2, won_in3, won_in4, won_in5, won_in6, win_rate, abandon_rate, mean_guesses, computed_at) " +
+      "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+  private static final int INSERT_BATCH = 1000;
+
+  // Listing sort keys and the WordStats property behind each
+  private static final Map<String, String> SORTS = Map.of(
+      "winRate", "winRate",
+      "abandonRate", "abandonRate",
+      "meanGuesses", "meanGuesses",
+      "games", "gamesPlayed");
+
+  private final JdbcTemplate jdbcTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final GuessWriteBehind guessWriteBehind;
+  private final WordStatsRepository wordStatsRepository;
+  private final ForkJoinPool pool;
+  private final long rangeSize;
+  private final int fetchSize;
+  private final int maxPageSize;
+  private final ReentrantLock running = new ReentrantLock();
+
+  private volatile LocalDateTime lastRunAt;
+  private volatile long lastRunMs;
+  private volatile long gamesScanned;
+  private volatile int wordsWritten;
+  private volatile int chunks;
+
+  public WordStatsService(JdbcTemplate jdbcTemplate,
+      PlatformTransactionManager transactionManager,
+      GuessWriteBehind guessWriteBehind,
+      WordStatsRepository wordStatsRepository,
+      @Value("${wordle.word-stats.parallelism:0}") int parallelism,
+      @Value("${wordle.word-stats.range-size:50000}") long rangeSize,
+      @Value("${wordle.word-stats.fetch-size:1000}") int fetchSize,
+      @Value("${wordle.admin.max-page-size:500}") int maxPageSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.guessWriteBehind = guessWriteBehind;
+    this.wordStatsRepository = wordStatsRepository;
+    // Each scanning thread holds a pooled connection while its chunk streams
+    this.pool = new ForkJoinPool(parallelism > 0 ? parallelism
+        : Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    this.rangeSize = rangeSize;
+    this.fetchSize = fetchSize;
+    this.maxPageSize = maxPageSize;
+  }
+
+  @Scheduled(cron = "${wordle.word-stats.cron:0 30 3 * * *}")
+  public void scheduledRun() {
+    try {
+      recompute();
+    } catch (IllegalStateException e) {
+      log.info("Scheduled word stats run skipped: {}", e.getMessage());
+    }
+  }
+
+  public Map<String, Object> recompute() {
+    if (!running.tryLock()) {
+      throw new IllegalStateException("Word stats are already being recomputed");
+    }
+    try {
+      long started = System.nanoTime();
+      // Count games whose last guesses are still queued
+      guessWriteBehind.flush();
+      // Daily games left unfinished before today can no longer be played
+      LocalDateTime abandonedBefore = LocalDate.now().atStartOfDay();
+
+      Map<String, Object> bounds = jdbcTemplate.queryForMap("SELECT MIN(id) AS lo, MAX(id) AS hi FROM games");
+      Number lo = (Number) bounds.get("lo");
+      Number hi = (Number) bounds.get("hi");
+      LongAdder rows = new LongAdder();
+      LongAdder scannedChunks = new LongAdder();
+      Map<Integer, Tally> tallies = lo == null ? Map.of()
+          : pool.invoke(new ScanRange(lo.longValue(), hi.longValue() + 1, abandonedBefore, rows, scannedChunks));
+
+      write(tallies, LocalDateTime.now());
+
+      lastRunMs = (System.nanoTime() - started) / 1_000_000;
+      lastRunAt = LocalDateTime.now();
+      gamesScanned = rows.sum();
+      wordsWritten = tallies.size();
+      chunks = scannedChunks.intValue();
+      log.info("Word stats recomputed for {} words from {} games in {} ms", wordsWritten, gamesScanned, lastRunMs);
+      return getStats();
+    } finally {
+      running.unlock();
+    }
+  }
+
+  // Words with at least minGames counted games; sort is winRate, abandonRate, meanGuesses or games
+  public List<WordStatsView> listStats(String sort, String direction, int limit, long minGames) {
+    String property = SORTS.get(sort);
+    if (property == null) {
+      throw new IllegalArgumentException("Sort must be one of " + String.join(", ", SORTS.keySet()));
+    }
+    boolean descending = "desc".equalsIgnoreCase(direction);
+    if (!descending && !"asc".equalsIgnoreCase(direction)) {
+      throw new IllegalArgumentException("Direction must be asc or desc");
+    }
+    int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+    Sort order = Sort.by(descending ? Sort.Direction.DESC : Sort.Direction.ASC, property).and(Sort.by("wordId"));
+    return wordStatsRepository.findViews(minGames, order, Limit.of(pageSize));
+  }
+
+  public Map<String, Object> getStats() {
+    Map<String, Object> stats = new LinkedHashMap<>();
+    stats.put("running", running.isLocked() && !running.isHeldByCurrentThread());
+    stats.put("parallelism", pool.getParallelism());
+    stats.put("lastRunAt", lastRunAt);
+    stats.put("lastRunMs", lastRunMs);
+    stats.put("gamesScanned", gamesScanned);
+    stats.put("words", wordsWritten);
+    stats.put("chunks", chunks);
+    return stats;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    pool.shutdownNow();
+  }
+
+  private void write(Map<Integer, Tally> tallies, LocalDateTime now) {
+    List<Map.Entry<Integer, Tally>> rows = new ArrayList<>(tallies.entrySet());
+    Timestamp computedAt = Timestamp.valueOf(now);
+    transactionTemplate.executeWithoutResult(status -> {
+      jdbcTemplate.update("DELETE FROM word_stats");
+      jdbcTemplate.batchUpdate(INSERT_STATS, rows, INSERT_BATCH, (ps, row) -> {
+        Tally tally = row.getValue();
+        long played = tally.played();
+        ps.setInt(1, row.getKey());
+        ps.setLong(2, played);
+        ps.setLong(3, tally.won);
+        ps.setLong(4, tally.lost);
+        ps.setLong(5, tally.abandoned);
+        for (int i = 0; i < tally.wonIn.length; i++) {
+          ps.setLong(6 + i, tally.wonIn[i]);
+        }
+        ps.setDouble(12, (double) tally.won / played);
+        ps.setDouble(13, (double) tally.abandoned / played);
+        ps.setObject(14, tally.won == 0 ? null : (double) tally.guessesToWin / tally.won);
+        ps.setTimestamp(15, computedAt);
+      });
+    });
+  }
+
+  // Counts for one word; a chunk's tallies are merged into its sibling's on join
+  private static final class Tally {
+    private long won;
+    private long lost;
+    private long abandoned;
+    private long guessesToWin;
+    private final long[] wonIn = new long[6];
+
+    void win(int guesses) {
+      won++;
+      guessesToWin += guesses;
+      wonIn[Math.max(1, Math.min(guesses, wonIn.length)) - 1]++;
+    }
+
+    long played() {
+      return won + lost + abandoned;
+    }
+
+    void add(Tally other) {
+      won += other.won;
+      lost += other.lost;
+      abandoned += other.abandoned;
+      guessesToWin += other.guessesToWin;
+      for (int i = 0; i < wonIn.length; i++) {
+        wonIn[i] += other.wonIn[i];
+      }
+    }
+  }
+
+  // Games with ids in [from, to), split in halves down to rangeSize ids per scan
+  private final class ScanRange extends RecursiveTask<Map<Integer, Tally>> {
+
+    private final long from;
+    private final long to;
+    private final LocalDateTime abandonedBefore;
+    private final LongAdder rows;
+    private final LongAdder scannedChunks;
+
+    ScanRange(long from, long to, LocalDateTime abandonedBefore, LongAdder rows, LongAdder scannedChunks) {
+      this.from = from;
+      this.to = to;
+      this.abandonedBefore = abandonedBefore;
+      this.rows = rows;
+      this.scannedChunks = scannedChunks;
+    }
+
+    @Override
+    protected Map<Integer, Tally> compute() {
+      if (to - from > rangeSize) {
+        long middle = (from + to) >>> 1;
+        ScanRange right = new ScanRange(middle, to, abandonedBefore, rows, scannedChunks);
+        right.fork();
+        Map<Integer, Tally> left = new ScanRange(from, middle, abandonedBefore, rows, scannedChunks).compute();
+        return merge(left, right.join());
+      }
+      return scan();
+    }
+
+    private Map<Integer, Tally> scan() {
+      Map<Integer, Tally> tallies = new HashMap<>();
+      jdbcTemplate.query(connection -> {
+        PreparedStatement ps = connection.prepareStatement(SCAN_GAMES, ResultSet.TYPE_FORWARD_ONLY,
+            ResultSet.CONCUR_READ_ONLY);
+        ps.setFetchSize(fetchSize);
+        ps.setLong(1, from);
+        ps.setLong(2, to);
+        return ps;
+      }, (RowCallbackHandler) rs -> {
+        rows.increment();
+        boolean finished = rs.getBoolean(3);
+        Timestamp startedAt = rs.getTimestamp(5);
+        // Still playable today; rows without a start time predate it and count as abandoned
+        if (!finished && startedAt != null && !startedAt.toLocalDateTime().isBefore(abandonedBefore)) {
+          return;
+        }
+        Tally tally = tallies.computeIfAbsent(rs.getInt(1), id -> new Tally());
+        if (!finished) {
+          tally.abandoned++;
+        } else if (rs.getBoolean(2)) {
+          tally.win(rs.getInt(4));
+        } else {
+          tally.lost++;
+        }
+      });
+      scannedChunks.increment();
+      return tallies;
+    }
+
+    private Map<Integer, Tally> merge(Map<Integer, Tally> left, Map<Integer, Tally> right) {
+      Map<Integer, Tally> larger = left.size() >= right.size() ? left : right;
+      Map<Integer, Tally> smaller = larger == left ? right : left;
+      for (Map.Entry<Integer, Tally> entry : smaller.entrySet()) {
+        Tally existing = larger.putIfAbsent(entry.getKey(), entry.getValue());
+        if (existing != null) {
+          existing.add(entry.getValue());
+        }
+      }
+      return larger;
+    }
+  }
+}
@@ -0,0 +1,73 @@
+-- Schema as previously generated by ddl-auto=update. Existing databases are baselined
+-- below this version, so it runs everywhere and only creates the tables that are missing.
+
+create table if not exists users (
+    id bigint not null auto_increment,
+    username varchar(255) not null,
+    password_hash varchar(255) not null,
+    role enum ('ADMIN','PLAYER'),
+    created_at datetime(6) not null,
+    primary key (id),
+    constraint UKr43af9ap4edm43mmtq01oddj6 unique (username)
+) engine=InnoDB;
+
+create table if not exists words (
+    id integer not null auto_increment,
+    word varchar(5) not null,
+    is_active bit not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    created_by_id bigint not null,
+    primary key (id),
+    constraint UK4tnfb8fuowge5ujwsnqb5arls unique (word),
+    constraint FKrpw5ty93gd1td6p6eye72rvy1 foreign key (created_by_id) references users (id)
+) engine=InnoDB;
+
+create table if not exists games (
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    word_id integer not null,
+    won bit,
+    guesses_allowed integer,
+    guesses_made integer,
+    finished bit,
+    started_at datetime(6),
+    finished_at datetime(6),
+    primary key (id),
+    constraint FK5ly18ggi3b1hdb66mb4p3v6r3 foreign key (user_id) references users (id),
+    constraint FKlngshsulhd5dxq35avu78cw2b foreign key (word_id) references words (id)
+) engine=InnoDB;
+
+create table if not exists guesses (
+    id bigint not null auto_increment,
+    game_id bigint not null,
+    guessed_word varchar(5) not null,
+    feedback varchar(255) not null,
+    guessed_at datetime(6),
+    primary key (id),
+    constraint FK9hr4l08cfor0sr8qm3bnfmn8e foreign key (game_id) references games (id)
+) engine=InnoDB;
+
+create table if not exists daily_stats (
+    stat_date date not null,
+    total_users bigint not null,
+    total_games bigint not null,
+    games_won bigint not null,
+    updated_at datetime(6) not null,
+    primary key (stat_date)
+) engine=InnoDB;
+
+create table if not exists player_daily_games (
+    player_id bigint not null,
+    play_date date not null,
+    games_started integer not null,
+    updated_at datetime(6) not null,
+    primary key (play_date, player_id)
+) engine=InnoDB;
+
+create table if not exists app_settings (
+    name varchar(64) not null,
+    setting_value varchar(255) not null,
+    updated_at datetime(6) not null,
+    primary key (name)
+) engine=InnoDB;
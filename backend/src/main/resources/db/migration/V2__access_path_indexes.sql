@@ -0,0 +1,16 @@
+-- One index per access path in GameRepository. Time filters are all half-open ranges on
+-- the raw column, so each index below can seek instead of scan. guesses.game_id needs
+-- nothing extra: InnoDB already indexes it for its foreign key, with id as the suffix.
+
+-- Today's games for a player (start, status, quota fallback): user_id =, started_at range,
+-- finished read from the index. Also serves as the user_id foreign key index.
+create index idx_games_user_started on games (user_id, started_at, finished);
+
+-- Per-player daily report: user_id =, finished_at range
+create index idx_games_user_finished on games (user_id, finished_at);
+
+-- Rollup backfill counts: finished_at range, won read from the index
+create index idx_games_finished_at on games (finished_at, won);
+
+-- Distinct players per day: started_at range, user_id read from the index
+create index idx_games_started_at on games (started_at, user_id);
@@ -0,0 +1,3 @@
+-- Answer words still consistent with the feedback after each guess, as tracked by
+-- CandidateTracker. Null for guesses made before tracking existed.
+alter table guesses add column candidates_remaining integer;
@@ -0,0 +1,20 @@
+-- Per-word difficulty, recomputed from the games table by WordStatsService. Rows are
+-- replaced wholesale on each run; only words with at least one counted game have a row.
+create table if not exists word_stats (
+    word_id integer not null,
+    games_played bigint not null,
+    games_won bigint not null,
+    games_lost bigint not null,
+    games_abandoned bigint not null,
+    won_in1 bigint not null,
+    won_in2 bigint not null,
+    won_in3 bigint not null,
+    won_in4 bigint not null,
+    won_in5 bigint not null,
+    won_in6 bigint not null,
+    win_rate double not null,
+    abandon_rate double not null,
+    mean_guesses double,
+    computed_at datetime(6) not null,
+    primary key (word_id)
+) engine=InnoDB;
@@ -0,0 +1,19 @@
+-- Per-player totals, streaks and wins by guesses used, kept up to date by PlayerStatsService
+-- as games finish. A player without a row is backfilled from the games table on first use.
+create table if not exists player_stats (
+    user_id bigint not null,
+    games_played bigint not null,
+    games_won bigint not null,
+    current_streak integer not null,
+    max_streak integer not null,
+    won_in1 bigint not null,
+    won_in2 bigint not null,
+    won_in3 bigint not null,
+    won_in4 bigint not null,
+    won_in5 bigint not null,
+    won_in6 bigint not null,
+    last_game_id bigint,
+    last_finished_at datetime(6),
+    updated_at datetime(6) not null,
+    primary key (user_id)
+) engine=InnoDB;
@@ -0,0 +1,89 @@
+package com.example.wordle;
+
+import com.example.wordle.dto.AuthResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.MockMvcPrint;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// A player's event stream carries the game start, quota, guess results and heartbeats
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:game-events;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+		"wordle.events.heartbeat-ms=100" })
+// Not printed: the stream's sender thread may still be writing headers while results are read
+@AutoConfigureMockMvc(print = MockMvcPrint.NONE)
+@ActiveProfiles("test")
+class GameEventsTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	void streamsGameEventsToSubscribedPlayer() throws Exception {
+		AuthResponse auth = objectMapper.readValue(mockMvc.perform(post("/api/auth/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"username\":\"player\",\"password\":\"player123\"}"))
+				.andReturn().getResponse().getContentAsString(), AuthResponse.class);
+		String bearer = "Bearer " + auth.getToken();
+
+		MvcResult stream = mockMvc.perform(get("/api/player/{userId}/events", auth.getUserId())
+				.header("Authorization", bearer))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		String game = mockMvc.perform(post("/api/player/game/start")
+				.param("userId", auth.getUserId().toString())
+				.header("Authorization", bearer))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		long gameId = objectMapper.readTree(game).get("id").asLong();
+		mockMvc.perform(post("/api/player/game/{gameId}/guess", gameId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"guess\":\"CRANE\"}")
+				.header("Authorization", bearer))
+				.andExpect(status().isOk());
+
+		String events = awaitContent(stream.getResponse(), "event:guess", ":heartbeat");
+		assertThat(events).contains("event:game", "\"id\":" + gameId);
+		assertThat(events).contains("event:quota", "\"used\":1");
+		assertThat(events).contains("event:guess", "\"guessedWord\":\"CRANE\"");
+		assertThat(events.indexOf("event:game")).isLessThan(events.indexOf("event:guess"));
+	}
+
+	// Events are written by the stream's own thread, shortly after they are published; a
+	// heartbeat may come before the guess, so wait for everything expected
+	private static String awaitContent(MockHttpServletResponse response, String... expected) throws Exception {
+		long deadline = System.currentTimeMillis() + 5000;
+		String content = response.getContentAsString();
+		while (!containsAll(content, expected) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+			content = response.getContentAsString();
+		}
+		return content;
+	}
+
+	private static boolean containsAll(String content, String... expected) {
+		for (String text : expected) {
+			if (!content.contains(text)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,91 @@
+package com.example.wordle;
+
+import com.example.wordle.dto.AuthResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// JPA statements per request on the player's hot paths, as recorded by the
+// wordle.http.jpa.statements metric. A regression here means a lost cache or an N+1.
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:statement-counts;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StatementCountTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	void playerHotPathsStayWithinStatementBudget() throws Exception {
+		AuthResponse auth = objectMapper.readValue(perform(post("/api/auth/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"username\":\"player\",\"password\":\"player123\"}")), AuthResponse.class);
+		String bearer = "Bearer " + auth.getToken();
+
+		// Player and today's unfinished games (one select with the word); the quota row, its
+		// fallback count and upsert; the solved-word index; the picked word and the insert.
+		// The quota and solved-word lookups are only paid on a player's first start.
+		JsonNode game = objectMapper.readTree(perform(post("/api/player/game/start")
+				.param("userId", auth.getUserId().toString())
+				.header("Authorization", bearer)));
+		assertThat(statements("POST", "/api/player/game/start")).isEqualTo(8);
+
+		// Words outside the allowed-guess list are turned away before the game is loaded
+		long gameId = game.get("id").asLong();
+		mockMvc.perform(post("/api/player/game/{gameId}/guess", gameId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"guess\":\"ZZZZZ\"}")
+				.header("Authorization", bearer))
+				.andExpect(status().isBadRequest());
+		assertThat(statements("POST", "/api/player/game/{gameId}/guess")).isZero();
+
+		// Guesses run against the cached session and are written behind; remaining
+		// candidates come from the session's bitset, not a query
+		JsonNode guess = objectMapper.readTree(perform(post("/api/player/game/{gameId}/guess", gameId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"guess\":\"CRANE\"}")
+				.header("Authorization", bearer)));
+		assertThat(statements("POST", "/api/player/game/{gameId}/guess")).isZero();
+		assertThat(guess.get("candidatesRemaining").asInt()).isPositive();
+
+		perform(get("/api/player/game/{gameId}/status", gameId).header("Authorization", bearer));
+		assertThat(statements("GET", "/api/player/game/{gameId}/status")).isZero();
+
+		// A single projection, however many games were played
+		perform(get("/api/player/{userId}/games/today", auth.getUserId()).header("Authorization", bearer));
+		assertThat(statements("GET", "/api/player/{userId}/games/today")).isEqualTo(1);
+	}
+
+	private String perform(RequestBuilder request) throws Exception {
+		return mockMvc.perform(request)
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+	}
+
+	private double statements(String method, String uri) {
+		return meterRegistry.get("wordle.http.jpa.statements")
+				.tag("method", method)
+				.tag("uri", uri)
+				.summary()
+				.max();
+	}
+}
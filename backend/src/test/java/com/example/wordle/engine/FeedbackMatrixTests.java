@@ -0,0 +1,102 @@
+package com.example.wordle.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FeedbackMatrixTests {
+
+	@Test
+	void incrementalChangesMatchScoring() {
+		Random random = new Random(7);
+		FeedbackMatrix matrix = FeedbackMatrix.build(randomWords(random, 200), ForkJoinPool.commonPool());
+		for (int n = 0; n < 300; n++) {
+			if (random.nextInt(3) == 0) {
+				matrix.remove(random.nextInt(matrix.slots()));
+			} else {
+				matrix.add(randomWord(random));
+			}
+		}
+
+		for (int guess = 0; guess < matrix.slots(); guess++) {
+			for (int target = 0; target < matrix.slots(); target++) {
+				if (matrix.isLive(guess) && matrix.isLive(target)) {
+					assertEquals(Feedback.score(matrix.word(target), matrix.word(guess)), matrix.code(guess, target));
+				}
+			}
+		}
+	}
+
+	@Test
+	void bestGuessHasMaximumEntropy() {
+		// Large enough for the ranking to fork
+		int[] words = randomWords(new Random(11), 1200);
+		FeedbackMatrix matrix = FeedbackMatrix.build(words, ForkJoinPool.commonPool());
+		long[] candidates = matrix.consistent(matrix.all(), words[0], 0, Feedback.score(words[1], words[0]));
+
+		FeedbackMatrix.Ranking best = matrix.best(candidates);
+
+		double expected = 0;
+		for (int guess = 0; guess < words.length; guess++) {
+			expected = Math.max(expected, entropy(words, candidates, guess));
+		}
+		assertEquals(expected, best.bits(), 1e-9);
+		assertEquals(expected, entropy(words, candidates, best.slot()), 1e-9);
+	}
+
+	@Test
+	void lastCandidateIsSuggestedItself() {
+		int[] words = { PackedWord.encode("CRANE"), PackedWord.encode("SLATE"), PackedWord.encode("TRACE") };
+		FeedbackMatrix matrix = FeedbackMatrix.build(words, ForkJoinPool.commonPool());
+		long[] candidates = matrix.consistent(matrix.all(), words[0], 0, Feedback.score(words[2], words[0]));
+
+		FeedbackMatrix.Ranking best = matrix.best(candidates);
+		assertEquals(2, best.slot());
+		assertTrue(best.candidate());
+		assertNull(matrix.best(new long[1]));
+	}
+
+	// Reference: entropy of the feedback groups a guess splits the candidates into
+	private static double entropy(int[] words, long[] candidates, int guess) {
+		int[] groups = new int[Feedback.CODES];
+		int total = 0;
+		for (int target = 0; target < words.length; target++) {
+			if ((candidates[target >>> 6] & (1L << target)) != 0) {
+				groups[Feedback.score(words[target], words[guess])]++;
+				total++;
+			}
+		}
+		double bits = 0;
+		for (int count : groups) {
+			if (count > 0) {
+				double p = (double) count / total;
+				bits -= p * Math.log(p) / Math.log(2);
+			}
+		}
+		return bits;
+	}
+
+	private static int[] randomWords(Random random, int count) {
+		List<Integer> words = new ArrayList<>();
+		for (int n = 0; n < count; n++) {
+			words.add(randomWord(random));
+		}
+		return words.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	// Few distinct letters, so feedback groups are not all singletons
+	private static int randomWord(Random random) {
+		char[] chars = new char[PackedWord.LENGTH];
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = "AEIRSTLN".charAt(random.nextInt(8));
+		}
+		return PackedWord.encode(new String(chars));
+	}
+}
@@ -0,0 +1,76 @@
+package com.example.wordle.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FeedbackTests {
+
+	@Test
+	void encodesCaseInsensitively() {
+		assertEquals(PackedWord.encode("apple"), PackedWord.encode("APPLE"));
+		assertEquals("APPLE", PackedWord.decode(PackedWord.encode("aPpLe")));
+		assertEquals(PackedWord.INVALID, PackedWord.encode("12345"));
+		assertEquals(PackedWord.INVALID, PackedWord.encode("APPLES"));
+	}
+
+	@Test
+	void scoresRepeatedLetters() {
+		assertEquals("GGGGG", pattern("APPLE", "APPLE"));
+		assertEquals(Feedback.ALL_GREEN, Feedback.score(PackedWord.encode("APPLE"), PackedWord.encode("apple")));
+		assertEquals("GO---", pattern("APPLE", "ALLOY"));
+		assertEquals("-G---", pattern("RIVER", "LIGHT"));
+		assertEquals("OO--G", pattern("PEARL", "EPOLL"));
+	}
+
+	@Test
+	void matchesReferenceImplementation() {
+		Random random = new Random(42);
+		for (int n = 0; n < 100_000; n++) {
+			String target = randomWord(random);
+			String guess = randomWord(random);
+			assertEquals(reference(target, guess), pattern(target, guess), target + " / " + guess);
+		}
+	}
+
+	private static String pattern(String target, String guess) {
+		return Feedback.toPattern(Feedback.score(PackedWord.encode(target), PackedWord.encode(guess)));
+	}
+
+	// Small alphabet so repeated letters are common
+	private static String randomWord(Random random) {
+		char[] chars = new char[5];
+		for (int i = 0; i < 5; i++) {
+			chars[i] = (char) ('A' + random.nextInt(6));
+		}
+		return new String(chars);
+	}
+
+	// The original GameService.generateFeedback
+	private static String reference(String targetWord, String guess) {
+		char[] feedback = new char[5];
+		boolean[] used = new boolean[5];
+		for (int i = 0; i < 5; i++) {
+			if (guess.charAt(i) == targetWord.charAt(i)) {
+				feedback[i] = 'G';
+				used[i] = true;
+			}
+		}
+		for (int i = 0; i < 5; i++) {
+			if (feedback[i] == 'G')
+				continue;
+			boolean found = false;
+			for (int j = 0; j < 5; j++) {
+				if (!used[j] && guess.charAt(i) == targetWord.charAt(j)) {
+					found = true;
+					used[j] = true;
+					break;
+				}
+			}
+			feedback[i] = found ? 'O' : '-';
+		}
+		return new String(feedback);
+	}
+}
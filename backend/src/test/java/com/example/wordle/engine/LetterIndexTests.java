@@ -0,0 +1,79 @@
+package com.example.wordle.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LetterIndexTests {
+
+	@Test
+	void narrowingMatchesScoring() {
+		Random random = new Random(3);
+		int[] words = randomWords(random, 2000);
+		// A gap in the ids, as left by deleted words
+		Arrays.fill(words, 100, 120, PackedWord.INVALID);
+		LetterIndex index = LetterIndex.build(words, 1);
+
+		for (int game = 0; game < 50; game++) {
+			int target = words[200 + game];
+			long[] candidates = index.all();
+			boolean[] expected = new boolean[words.length];
+			for (int id = 0; id < words.length; id++) {
+				expected[id] = words[id] != PackedWord.INVALID;
+			}
+			for (int turn = 0; turn < 4; turn++) {
+				int guess = randomWord(random);
+				int code = Feedback.score(target, guess);
+				index.narrow(candidates, guess, code);
+				for (int id = 0; id < words.length; id++) {
+					expected[id] &= words[id] != PackedWord.INVALID && Feedback.score(words[id], guess) == code;
+					assertEquals(expected[id], (candidates[id >>> 6] & (1L << id)) != 0);
+				}
+			}
+		}
+	}
+
+	@Test
+	void candidateSetFollowsNewIndex() {
+		int[] words = { PackedWord.encode("CRANE"), PackedWord.encode("CRATE"), PackedWord.encode("SLATE"),
+				PackedWord.encode("TRACE") };
+		LetterIndex first = LetterIndex.build(words, 1);
+		int target = words[1];
+		int guess = PackedWord.encode("GRATE");
+
+		CandidateSet set = CandidateSet.start(first);
+		assertEquals(4, set.remaining());
+		assertEquals(1, set.narrow(first, guess, Feedback.score(target, guess)));
+
+		// A word added later that fits the earlier guess joins the candidates
+		int[] grown = Arrays.copyOf(words, 5);
+		grown[4] = PackedWord.encode("PRATE");
+		LetterIndex second = LetterIndex.build(grown, 2);
+		int next = PackedWord.encode("CRAMP");
+		assertEquals(1, set.narrow(second, next, Feedback.score(target, next)));
+
+		CandidateSet replayed = CandidateSet.replay(second, new int[] { guess },
+				new int[] { Feedback.score(target, guess) });
+		assertEquals(2, replayed.remaining());
+	}
+
+	private static int[] randomWords(Random random, int count) {
+		int[] words = new int[count];
+		for (int i = 0; i < count; i++) {
+			words[i] = randomWord(random);
+		}
+		return words;
+	}
+
+	// Few distinct letters, so guesses repeat letters and leave several candidates
+	private static int randomWord(Random random) {
+		char[] chars = new char[PackedWord.LENGTH];
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = "AEIRSTLN".charAt(random.nextInt(8));
+		}
+		return PackedWord.encode(new String(chars));
+	}
+}
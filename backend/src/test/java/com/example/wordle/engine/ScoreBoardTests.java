@@ -0,0 +1,58 @@
+package com.example.wordle.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ScoreBoardTests {
+
+	@Test
+	void ranksHigherScoresFirstWithSharedRanksForTies() {
+		ScoreBoard board = new ScoreBoard(true);
+		board.move(1, ScoreBoard.NONE, 5);
+		board.move(2, ScoreBoard.NONE, 9);
+		board.move(3, ScoreBoard.NONE, 5);
+		board.move(4, ScoreBoard.NONE, 2);
+
+		assertEquals(List.of(
+				new ScoreBoard.Ranked(1, 2, 9),
+				new ScoreBoard.Ranked(2, 1, 5),
+				new ScoreBoard.Ranked(2, 3, 5)), board.top(3));
+		assertEquals(1, board.rank(9));
+		assertEquals(2, board.rank(5));
+		assertEquals(4, board.rank(2));
+		assertEquals(4, board.size());
+	}
+
+	@Test
+	void movesPlayersAndRanksLowerScoresFirst() {
+		ScoreBoard board = new ScoreBoard(false);
+		board.move(1, ScoreBoard.NONE, 3500);
+		board.move(2, ScoreBoard.NONE, 4000);
+		board.move(1, 3500, 4200);
+
+		assertEquals(List.of(
+				new ScoreBoard.Ranked(1, 2, 4000),
+				new ScoreBoard.Ranked(2, 1, 4200)), board.top(10));
+		assertEquals(2, board.rank(4200));
+
+		board.move(2, 4000, ScoreBoard.NONE);
+		assertEquals(1, board.rank(4200));
+		assertEquals(1, board.size());
+	}
+
+	@Test
+	void growsPastInitialScoreRange() {
+		ScoreBoard board = new ScoreBoard(true);
+		for (int id = 0; id < 100; id++) {
+			board.move(id, ScoreBoard.NONE, id * 100);
+		}
+
+		assertEquals(1, board.rank(9900));
+		assertEquals(51, board.rank(4900));
+		assertEquals(100, board.rank(0));
+		assertEquals(100, board.size());
+	}
+}
@@ -0,0 +1,40 @@
+package com.example.wordle.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WordSetTests {
+
+	@Test
+	void containsOnlyAddedWords() {
+		WordSet.Builder builder = WordSet.builder();
+		assertTrue(builder.add(PackedWord.encode("CRANE")));
+		assertTrue(builder.add(PackedWord.encode("ZZZZZ")));
+		assertTrue(builder.add(PackedWord.encode("AAAAA")));
+		assertFalse(builder.add(PackedWord.encode("crane")));
+		assertFalse(builder.add(PackedWord.INVALID));
+		WordSet set = builder.build();
+
+		assertEquals(3, set.size());
+		assertTrue(set.contains(PackedWord.encode("CRANE")));
+		assertTrue(set.contains(PackedWord.encode("ZZZZZ")));
+		assertTrue(set.contains(PackedWord.encode("AAAAA")));
+		assertFalse(set.contains(PackedWord.encode("NACRE")));
+		assertFalse(set.contains(PackedWord.INVALID));
+	}
+
+	@Test
+	void withCopiesAndLeavesOriginal() {
+		WordSet empty = WordSet.empty();
+		WordSet one = empty.with(PackedWord.encode("SLATE"));
+
+		assertEquals(0, empty.size());
+		assertFalse(empty.contains(PackedWord.encode("SLATE")));
+		assertTrue(one.contains(PackedWord.encode("SLATE")));
+		assertSame(one, one.with(PackedWord.encode("SLATE")));
+	}
+}
@@ -0,0 +1,167 @@
+package com.example.wordle.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Runs each repository query against the Flyway schema and checks, through EXPLAIN on the
+// SQL Hibernate actually generated, that it seeks the index meant for it.
+@DataJpaTest(showSql = false, properties = {
+		"spring.datasource.url=jdbc:h2:mem:query-plans;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+		"spring.jpa.properties.hibernate.session_factory.statement_inspector="
+				+ "com.example.wordle.repository.QueryPlanTests$CapturedSql"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+class QueryPlanTests {
+
+	private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+	private static final LocalDateTime START = DAY.atStartOfDay();
+	private static final LocalDateTime END = DAY.plusDays(1).atStartOfDay();
+
+	@Autowired
+	private GameRepository gameRepository;
+
+	@Autowired
+	private GuessRepository guessRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private static final int PLAYERS = 40;
+
+	private static long playerId;
+
+	// Committed once, outside the test transactions, so ANALYZE sees realistic selectivity:
+	// many players with a couple of games a day each over two months
+	@BeforeAll
+	static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+		Timestamp now = Timestamp.valueOf(START);
+		jdbcTemplate.update("INSERT INTO users (username, password_hash, role, created_at) VALUES ('admin', 'x', 'ADMIN', ?)", now);
+		long adminId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'admin'", Long.class);
+		jdbcTemplate.batchUpdate("INSERT INTO users (username, password_hash, role, created_at) VALUES (?, 'x', 'PLAYER', ?)",
+				IntStream.range(0, PLAYERS).mapToObj(n -> new Object[] {"p" + n, now}).toList());
+		playerId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'p0'", Long.class);
+		jdbcTemplate.update("INSERT INTO words (word, is_active, created_at, updated_at, created_by_id) VALUES "
+				+ "('APPLE', true, ?, ?, ?), ('BRAVE', true, ?, ?, ?)", now, now, adminId, now, now, adminId);
+		int wordId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM words", Integer.class);
+
+		List<Object[]> games = new ArrayList<>();
+		for (int day = -60; day <= 0; day++) {
+			for (int player = 0; player < PLAYERS; player++) {
+				for (int n = 0; n < 2; n++) {
+					LocalDateTime startedAt = START.plusDays(day).plusHours(player % 12 + n * 12);
+					games.add(new Object[] {playerId + player, wordId, n == 0, day < 0 || n == 0,
+							Timestamp.valueOf(startedAt), Timestamp.valueOf(startedAt.plusMinutes(5))});
+				}
+			}
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO games (user_id, word_id, won, guesses_allowed, guesses_made, "
+				+ "finished, started_at, finished_at) VALUES (?, ?, ?, 5, 3, ?, ?, ?)", games);
+		jdbcTemplate.update("INSERT INTO guesses (game_id, guessed_word, feedback, guessed_at) "
+				+ "SELECT id, 'CRANE', 'XXXXX', started_at FROM games");
+		jdbcTemplate.execute("ANALYZE");
+	}
+
+	@Test
+	void todaysGamesSeekPlayerAndStartRange() {
+		assertSeeks(plan(() -> gameRepository.findUnfinishedStartedBetween(playerId, START, END),
+				playerId, START, END), "idx_games_user_started");
+		assertSeeks(plan(() -> gameRepository.findFinishedViewsStartedBetween(playerId, START, END),
+				playerId, START, END), "idx_games_user_started");
+		assertSeeks(plan(() -> gameRepository.countStartedBetween(playerId, START, END),
+				playerId, START, END), "idx_games_user_started");
+	}
+
+	@Test
+	void playerReportSeeksPlayerAndFinishRange() {
+		assertSeeks(plan(() -> gameRepository.findDailyReportByPlayer(playerId, START, END),
+				playerId, START, END), "idx_games_user_finished");
+	}
+
+	@Test
+	void rollupBackfillSeeksTimeRanges() {
+		assertSeeks(plan(() -> gameRepository.countByFinishedAtGreaterThanEqualAndFinishedAtLessThan(START, END),
+				START, END), "idx_games_finished_at");
+		assertSeeks(plan(() -> gameRepository.countByFinishedAtGreaterThanEqualAndFinishedAtLessThanAndWonTrue(START, END),
+				START, END), "idx_games_finished_at");
+		// Joined with users for the role filter; the planner may drive from either side, but
+		// games must be reached through one of its indexes, never scanned
+		assertSeeks(plan(() -> gameRepository.countDistinctPlayersStartedBetween(START, END),
+				START, END), "idx_games_");
+		assertSeeks(plan(() -> gameRepository.findPlayerIdsStartedBetween(START, END),
+				START, END), "idx_games_");
+	}
+
+	@Test
+	void guessesOfGameSeekForeignKeyIndex() {
+		long gameId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM games", Long.class);
+		assertSeeks(plan(() -> guessRepository.findAllByGameId(gameId), gameId), "FK9hr4l08cfor0sr8qm3bnfmn8e");
+	}
+
+	@Test
+	void startPathQueriesRunOneStatementEach() {
+		assertThat(statements(() -> assertThat(gameRepository.findUnfinishedStartedBetween(playerId, START, END))
+				.singleElement()
+				.satisfies(game -> assertThat(game.getWord().getCreatedBy().getUsername()).isEqualTo("admin"))))
+				.isEqualTo(1);
+		assertThat(statements(() -> assertThat(gameRepository.countStartedBetween(playerId, START, END))
+				.isEqualTo(2))).isEqualTo(1);
+		assertThat(statements(() -> assertThat(gameRepository.findFinishedViewsStartedBetween(playerId, START, END))
+				.hasSize(1))).isEqualTo(1);
+		assertThat(statements(() -> assertThat(gameRepository.countDistinctPlayersStartedBetween(START, END))
+				.isEqualTo(PLAYERS))).isEqualTo(1);
+	}
+
+	// EXPLAIN of the query's own statement, with the same parameter values
+	private String plan(Runnable query, Object... args) {
+		CapturedSql.clear();
+		query.run();
+		return jdbcTemplate.queryForObject("EXPLAIN " + CapturedSql.statements().get(0), String.class, args);
+	}
+
+	private static int statements(Runnable query) {
+		CapturedSql.clear();
+		query.run();
+		return CapturedSql.statements().size();
+	}
+
+	private static void assertSeeks(String plan, String index) {
+		assertThat(plan).containsIgnoringCase(index)
+				.doesNotContainIgnoringCase("games.tableScan")
+				.doesNotContainIgnoringCase("guesses.tableScan");
+	}
+
+	// Records the SQL Hibernate prepares; configured by class name above
+	public static class CapturedSql implements StatementInspector {
+
+		private static final List<String> STATEMENTS = new ArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql);
+			return sql;
+		}
+
+		static void clear() {
+			STATEMENTS.clear();
+		}
+
+		static List<String> statements() {
+			return List.copyOf(STATEMENTS);
+		}
+	}
+}
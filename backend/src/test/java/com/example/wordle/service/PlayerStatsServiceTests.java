@@ -0,0 +1,92 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.PlayerStatsView;
+import com.example.wordle.model.Game;
+import com.example.wordle.model.PlayerStats;
+import com.example.wordle.repository.GameRepository;
+import com.example.wordle.repository.PlayerStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// A one-player cache, so the card is evicted and read back from its row
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:player-stats;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+		"wordle.player-stats.max-players=1",
+		"wordle.player-stats.flush-interval-ms=3600000" })
+@ActiveProfiles("test")
+class PlayerStatsServiceTests {
+
+	@Autowired
+	private PlayerStatsService playerStatsService;
+
+	@Autowired
+	private PlayerStatsRepository playerStatsRepository;
+
+	@Autowired
+	private GameRepository gameRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void backfillsThenCountsEachFinishedGameOnce() {
+		long player = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'player'", Long.class);
+		long admin = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'admin'", Long.class);
+		int word = jdbcTemplate.queryForObject("SELECT MIN(id) FROM words", Integer.class);
+		LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
+
+		// won in 3, won in 2, lost, won in 4; the unfinished game does not count
+		insertGame(player, word, true, true, 3, yesterday);
+		insertGame(player, word, true, true, 2, yesterday);
+		insertGame(player, word, false, true, 5, yesterday);
+		long backfilledId = insertGame(player, word, true, true, 4, yesterday);
+		insertGame(player, word, false, false, 1, yesterday);
+
+		PlayerStatsView backfilled = playerStatsService.getPlayerStats(player);
+		assertThat(backfilled.gamesPlayed()).isEqualTo(4);
+		assertThat(backfilled.gamesWon()).isEqualTo(3);
+		assertThat(backfilled.currentStreak()).isEqualTo(1);
+		assertThat(backfilled.maxStreak()).isEqualTo(2);
+		assertThat(backfilled.guessDistribution()).containsExactly(0L, 1L, 1L, 1L, 0L, 0L);
+
+		// A new win extends the streak; finishing the same game again, or one the backfill
+		// already read, changes nothing
+		long id = insertGame(player, word, true, true, 1, LocalDateTime.now());
+		Game game = gameRepository.findById(id).orElseThrow();
+		playerStatsService.gameFinished(game);
+		playerStatsService.gameFinished(game);
+		playerStatsService.gameFinished(gameRepository.findById(backfilledId).orElseThrow());
+		playerStatsService.flush();
+
+		PlayerStats row = playerStatsRepository.findById(player).orElseThrow();
+		assertThat(row.getGamesPlayed()).isEqualTo(5);
+		assertThat(row.getCurrentStreak()).isEqualTo(2);
+		assertThat(row.getMaxStreak()).isEqualTo(2);
+		assertThat(row.getWonIn1()).isEqualTo(1);
+		assertThat(row.getLastGameId()).isEqualTo(id);
+
+		// Loading another player evicts the first, whose card then comes back from its row
+		playerStatsService.getPlayerStats(admin);
+		PlayerStatsView reloaded = playerStatsService.getPlayerStats(player);
+		assertThat(reloaded.gamesWon()).isEqualTo(4);
+		assertThat(reloaded.guessDistribution()).containsExactly(1L, 1L, 1L, 1L, 0L, 0L);
+		assertThat(playerStatsService.getStats().get("backfills")).isEqualTo(2L);
+	}
+
+	private long insertGame(long player, int word, boolean won, boolean finished, int guesses, LocalDateTime startedAt) {
+		jdbcTemplate.update("INSERT INTO games (user_id, word_id, won, finished, guesses_allowed, guesses_made, " +
+				"started_at, finished_at) VALUES (?, ?, ?, ?, 5, ?, ?, ?)",
+				player, word, won, finished, guesses, Timestamp.valueOf(startedAt),
+				finished ? Timestamp.valueOf(startedAt.plusMinutes(5)) : null);
+		return jdbcTemplate.queryForObject("SELECT MAX(id) FROM games", Long.class);
+	}
+}
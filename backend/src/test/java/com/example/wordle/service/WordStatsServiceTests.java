@@ -0,0 +1,80 @@
+package com.example.wordle.service;
+
+import com.example.wordle.dto.WordStatsView;
+import com.example.wordle.model.WordStats;
+import com.example.wordle.repository.WordStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Small chunks and two threads, so the scan is split and merged even on a handful of games
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:word-stats;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+		"wordle.word-stats.range-size=3",
+		"wordle.word-stats.parallelism=2" })
+@ActiveProfiles("test")
+class WordStatsServiceTests {
+
+	@Autowired
+	private WordStatsService wordStatsService;
+
+	@Autowired
+	private WordStatsRepository wordStatsRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void aggregatesEveryGameOncePerWord() {
+		long player = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'player'", Long.class);
+		List<Integer> words = jdbcTemplate.queryForList("SELECT id FROM words ORDER BY id LIMIT 2", Integer.class);
+		int hard = words.get(0);
+		int easy = words.get(1);
+		LocalDateTime yesterday = LocalDateTime.now().minusDays(1);
+
+		// hard: won in 2 and 4, lost once, abandoned yesterday, and one still in progress
+		insertGame(player, hard, true, true, 2, yesterday);
+		insertGame(player, hard, true, true, 4, yesterday);
+		insertGame(player, hard, false, true, 5, yesterday);
+		insertGame(player, hard, false, false, 1, yesterday);
+		insertGame(player, hard, false, false, 1, LocalDateTime.now());
+		// easy: won in 1 three times
+		for (int i = 0; i < 3; i++) {
+			insertGame(player, easy, true, true, 1, yesterday);
+		}
+
+		Map<String, Object> run = wordStatsService.recompute();
+		assertThat(run.get("gamesScanned")).isEqualTo(8L);
+		assertThat((Integer) run.get("chunks")).isGreaterThan(1);
+
+		WordStats stats = wordStatsRepository.findById(hard).orElseThrow();
+		assertThat(stats.getGamesPlayed()).isEqualTo(4);
+		assertThat(stats.getGamesWon()).isEqualTo(2);
+		assertThat(stats.getGamesLost()).isEqualTo(1);
+		assertThat(stats.getGamesAbandoned()).isEqualTo(1);
+		assertThat(stats.getWonIn2()).isEqualTo(1);
+		assertThat(stats.getWonIn4()).isEqualTo(1);
+		assertThat(stats.getWinRate()).isEqualTo(0.5);
+		assertThat(stats.getAbandonRate()).isEqualTo(0.25);
+		assertThat(stats.getMeanGuesses()).isEqualTo(3.0);
+
+		List<WordStatsView> easiest = wordStatsService.listStats("winRate", "desc", 10, 1);
+		assertThat(easiest).extracting(view -> view.stats().getWordId()).containsExactly(easy, hard);
+	}
+
+	private void insertGame(long player, int word, boolean won, boolean finished, int guesses, LocalDateTime startedAt) {
+		jdbcTemplate.update("INSERT INTO games (user_id, word_id, won, finished, guesses_allowed, guesses_made, " +
+				"started_at, finished_at) VALUES (?, ?, ?, ?, 5, ?, ?, ?)",
+				player, word, won, finished, guesses, Timestamp.valueOf(startedAt),
+				finished ? Timestamp.valueOf(startedAt.plusMinutes(5)) : null);
+	}
+}
@@ -67,10 +67,17 @@ const Reports = () => {
   };
 
   // Add this new function to fetch players
+  // Follows nextCursor through every page so the selector lists all players
   const fetchPlayers = async () => {
     try {
-      const response = await adminAPI.getPlayers(); // You'll need to add this endpoint to your API
-      setPlayers(response.data);
+      const all = [];
+      let cursor = null;
+      do {
+        const response = await adminAPI.getPlayers({ limit: 500, cursor });
+        all.push(...response.data.items);
+        cursor = response.data.nextCursor;
+      } while (cursor);
+      setPlayers(all);
     } catch (error) {
       setError("Failed to fetch players: " + error.message);
     }
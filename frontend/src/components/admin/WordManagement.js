@@ -27,6 +27,7 @@ import { adminAPI } from '../../services/api';
 
 const WordManagement = () => {
     const [words, setWords] = useState([]);
+    const [nextCursor, setNextCursor] = useState(null);
     const [isLoading, setIsLoading] = useState(false);
     const [error, setError] = useState(null);
     const [success, setSuccess] = useState(null);
@@ -45,8 +46,9 @@ const WordManagement = () => {
         try {
             setIsLoading(true);
             setError(null);
-            const response = await adminAPI.getWords();
-            setWords(response.data);
+            const response = await adminAPI.getWords({ limit: 100 });
+            setWords(response.data.items);
+            setNextCursor(response.data.nextCursor);
         } catch (error) {
             setError(error.response?.data?.message || 'Failed to fetch words');
         } finally {
@@ -54,6 +56,17 @@ const WordManagement = () => {
         }
     };
 
+    const fetchMoreWords = async () => {
+        try {
+            setError(null);
+            const response = await adminAPI.getWords({ limit: 100, cursor: nextCursor });
+            setWords((current) => [...current, ...response.data.items]);
+            setNextCursor(response.data.nextCursor);
+        } catch (error) {
+            setError(error.response?.data?.message || 'Failed to fetch words');
+        }
+    };
+
     const handleAddWord = async () => {
         if (!newWord.trim()) {
             setError('Please enter a word');
@@ -158,7 +171,7 @@ const WordManagement = () => {
                                     </TableCell>
                                     <TableCell>
                                         <Typography variant="body2">
-                                            {word.createdBy?.username || 'Unknown'}
+                                            {word.createdBy || 'Unknown'}
                                         </Typography>
                                     </TableCell>
                                     <TableCell>
@@ -171,6 +184,14 @@ const WordManagement = () => {
                 </Table>
             </TableContainer>
 
+            {nextCursor && (
+                <Box sx={{ display: 'flex', justifyContent: 'center', mt: 2 }}>
+                    <Button onClick={fetchMoreWords} disabled={isLoading}>
+                        Load more
+                    </Button>
+                </Box>
+            )}
+
             {/* Add Word Dialog */}
             <Dialog open={addDialogOpen} onClose={() => setAddDialogOpen(false)} maxWidth="sm" fullWidth>
                 <DialogTitle>Add New Word</DialogTitle>
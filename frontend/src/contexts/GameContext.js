@@ -29,6 +29,7 @@ const GAME_ACTIONS = {
   RESET_GAME: "RESET_GAME",
   SET_GAMES_PLAYED: "SET_GAMES_PLAYED",
   UPDATE_GAMES_PLAYED: "UPDATE_GAMES_PLAYED",
+  SET_MAX_GAMES: "SET_MAX_GAMES",
 };
 
 // Game status mapping
@@ -140,6 +141,12 @@ const gameReducer = (state, action) => {
         gamesPlayedToday: action.payload,
       };
 
+    case GAME_ACTIONS.SET_MAX_GAMES:
+      return {
+        ...state,
+        maxGamesPerDay: action.payload,
+      };
+
     default:
       return state;
   }
@@ -155,14 +162,19 @@ export const GameProvider = ({ children }) => {
   // Start a new game
   const startGame = async (userId) => {
     try {
-      // Check games played today first
-      const gamesPlayedResponse = await playerAPI.getGamesPlayedToday(userId);
+      // Check games played today first; the limit is configured on the server
+      const [gamesPlayedResponse, quotaResponse] = await Promise.all([
+        playerAPI.getGamesPlayedToday(userId),
+        playerAPI.getDailyQuota(userId),
+      ]);
       const gamesPlayed = gamesPlayedResponse.data.length;
+      const maxGamesPerDay = quotaResponse.data.limit;
+      dispatch({ type: GAME_ACTIONS.SET_MAX_GAMES, payload: maxGamesPerDay });
 
-      if (gamesPlayed >= state.maxGamesPerDay) {
+      if (gamesPlayed >= maxGamesPerDay) {
         dispatch({
           type: GAME_ACTIONS.SET_ERROR,
-          payload: `You've reached the maximum limit of ${state.maxGamesPerDay} games per day.`,
+          payload: `You've reached the maximum limit of ${maxGamesPerDay} games per day.`,
         });
         return { success: false, error: "Daily limit reached" };
       }
@@ -179,14 +191,14 @@ export const GameProvider = ({ children }) => {
         payload: gamesPlayed + 1,
       });
 
-      // Backend returns: { id, player, word, won, guessesAllowed, guessesMade, finished, startedAt, finishedAt }
+      // Backend returns: { id, guessesAllowed, guessesMade, won, finished, startedAt, finishedAt, word }
+      // word is only set once the game is over
       const gameData = response.data;
 
       // Extract the game information from the response (flat structure)
       const gameInfo = {
         id: gameData.id,
-        targetWord: gameData.word.word,
-        player: gameData.player,
+        targetWord: gameData.word,
         won: gameData.won,
         finished: gameData.finished,
         guessesAllowed: gameData.guessesAllowed,
@@ -222,7 +234,7 @@ export const GameProvider = ({ children }) => {
       const response = await playerAPI.makeGuess(gameId, guess);
       console.log("GameContext: Make guess response:", response.data);
 
-      // Backend returns: { id, game: {...}, guessedWord, feedback, guessedAt }
+      // Backend returns: { gameId, guessedWord, feedback, guessedAt, guessesMade, guessesAllowed, won, finished, word }
       const guessData = response.data;
 
       // Convert feedback format from "-O---" to ["ABSENT", "PRESENT", "ABSENT", "ABSENT", "ABSENT"]
@@ -239,9 +251,9 @@ export const GameProvider = ({ children }) => {
         }
       });
 
-      // Check if game is over (makeGuess response has nested game object)
-      const isGameOver = guessData.game.finished;
-      const gameStatus = guessData.game.won
+      // Check if game is over
+      const isGameOver = guessData.finished;
+      const gameStatus = guessData.won
         ? "WON"
         : isGameOver
         ? "LOST"
@@ -287,8 +299,7 @@ export const GameProvider = ({ children }) => {
       // Extract the game information from the response (flat structure)
       const gameInfo = {
         id: gameData.id,
-        targetWord: gameData.word.word,
-        player: gameData.player,
+        targetWord: gameData.word,
         won: gameData.won,
         finished: gameData.finished,
         guessesAllowed: gameData.guessesAllowed,
@@ -306,6 +317,18 @@ export const GameProvider = ({ children }) => {
     }
   };
 
+  // Suggested next guess for the current game
+  const getHint = async (gameId) => {
+    try {
+      const response = await playerAPI.getHint(gameId);
+      return { success: true, hint: response.data };
+    } catch (error) {
+      const errorMessage =
+        error.response?.data?.message || error.response?.data || "No hint available";
+      return { success: false, error: errorMessage };
+    }
+  };
+
   // Reset game
   const resetGame = () => {
     dispatch({ type: GAME_ACTIONS.RESET_GAME });
@@ -324,16 +347,21 @@ export const GameProvider = ({ children }) => {
   // Add new function to check games played
   const checkGamesPlayedToday = async (userId) => {
     try {
-      const response = await playerAPI.getGamesPlayedToday(userId);
+      const [response, quotaResponse] = await Promise.all([
+        playerAPI.getGamesPlayedToday(userId),
+        playerAPI.getDailyQuota(userId),
+      ]);
       const gamesPlayed = response.data.length;
+      const maxGamesPerDay = quotaResponse.data.limit;
       dispatch({
         type: GAME_ACTIONS.UPDATE_GAMES_PLAYED,
         payload: gamesPlayed,
       });
+      dispatch({ type: GAME_ACTIONS.SET_MAX_GAMES, payload: maxGamesPerDay });
       return {
         success: true,
         gamesPlayed,
-        canPlay: gamesPlayed < state.maxGamesPerDay,
+        canPlay: gamesPlayed < maxGamesPerDay,
       };
     } catch (error) {
       console.error("Error checking games played:", error);
@@ -346,6 +374,7 @@ export const GameProvider = ({ children }) => {
     startGame,
     makeGuess,
     getGameStatus,
+    getHint,
     resetGame,
     clearError,
     setGamesPlayedToday,
@@ -31,6 +31,7 @@ const PlayerDashboard = () => {
   const [showResultDialog, setShowResultDialog] = useState(false);
   const [resultMessage, setResultMessage] = useState("");
   const [isCountLoading, setIsCountLoading] = useState(false);
+  const [hint, setHint] = useState(null);
 
   const { user, logout, isLoading: authLoading } = useAuth();
   const {
@@ -44,6 +45,7 @@ const PlayerDashboard = () => {
     maxGamesPerDay,
     startGame,
     makeGuess,
+    getHint,
     resetGame,
     clearError,
     checkGamesPlayedToday, // Add this
@@ -146,6 +148,7 @@ const PlayerDashboard = () => {
 
     if (result.success) {
       setCurrentGuess("");
+      setHint(null);
       // Animation will complete after a delay
       setTimeout(() => {
         setIsAnimating(false);
@@ -155,6 +158,14 @@ const PlayerDashboard = () => {
     }
   };
 
+  const handleHint = async () => {
+    if (!currentGame) {
+      return;
+    }
+    const result = await getHint(currentGame.id);
+    setHint(result.success ? result.hint : { error: result.error });
+  };
+
   const handleKeyPress = (e) => {
     if (e.key === "Enter") {
       handleSubmitGuess();
@@ -299,7 +310,25 @@ const PlayerDashboard = () => {
                           "Submit Guess"
                         )}
                       </Button>
+                      <Button
+                        onClick={handleHint}
+                        disabled={isLoading}
+                        sx={{ ml: 2, color: "#6aaa64" }}
+                      >
+                        Hint
+                      </Button>
                     </Box>
+
+                    {hint && (
+                      <Alert
+                        severity={hint.error ? "warning" : "info"}
+                        sx={{ mt: 2 }}
+                        onClose={() => setHint(null)}
+                      >
+                        {hint.error ||
+                          `Try ${hint.suggestion} (${hint.candidatesRemaining} possible words left)`}
+                      </Alert>
+                    )}
                   </Box>
                 )}
               </>
@@ -75,12 +75,17 @@ export const playerAPI = {
     api.post(`/player/game/${gameId}/guess`, { guess }),
   getGameStatus: (gameId) => api.get(`/player/game/${gameId}/status`),
   getGamesPlayedToday: (userId) => api.get(`/player/${userId}/games/today`),
+  // { date, limit, used, remaining }; used counts unfinished games too
+  getDailyQuota: (userId) => api.get(`/player/${userId}/games/quota`),
+  // { suggestion, expectedBits, candidatesRemaining, candidate }
+  getHint: (gameId) => api.get(`/player/game/${gameId}/hint`),
 };
 
 // Admin API
 export const adminAPI = {
   // Word management
-  getWords: () => api.get("/admin/words"),
+  // Keyset-paginated: { items, nextCursor }
+  getWords: (params) => api.get("/admin/words", { params }),
   createWord: (wordData) => api.post("/admin/words", wordData),
   updateWord: (wordId, wordData) => api.put(`/admin/words/${wordId}`, wordData),
   deleteWord: (wordId) => api.delete(`/admin/words/${wordId}`),
@@ -90,8 +95,8 @@ export const adminAPI = {
   getPlayerReport: (userId) => api.get(`/admin/report/player/${userId}`),
 
   // Players
-  getPlayers: () => {
-    return api.get("/admin/players");
+  getPlayers: (params) => {
+    return api.get("/admin/players", { params });
   },
 };
 